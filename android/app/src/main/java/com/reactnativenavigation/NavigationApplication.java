@@ -1,9 +1,11 @@
 package com.reactnativenavigation;
 
 import android.app.Application;
+import android.content.ComponentCallbacks2;
 import android.content.Intent;
 import android.os.Bundle;
 import android.os.Handler;
+import android.os.Process;
 import android.support.annotation.Nullable;
 import android.support.v4.app.ActivityOptionsCompat;
 
@@ -13,8 +15,17 @@ import com.facebook.react.ReactPackage;
 import com.facebook.react.bridge.ReactContext;
 import com.reactnativenavigation.bridge.EventEmitter;
 import com.reactnativenavigation.controllers.ActivityCallbacks;
+import com.reactnativenavigation.controllers.LaunchLayoutCache;
+import com.reactnativenavigation.controllers.NavigationCommandsScheduler;
+import com.reactnativenavigation.events.EventBus;
+import com.reactnativenavigation.events.TrimMemoryEvent;
+import com.reactnativenavigation.react.ImageLoader;
 import com.reactnativenavigation.react.NavigationReactGateway;
+import com.reactnativenavigation.react.ReactDevPermission;
 import com.reactnativenavigation.react.ReactGateway;
+import com.reactnativenavigation.react.ResourceDrawableIdHelper;
+import com.reactnativenavigation.utils.NavigationMetrics;
+import com.reactnativenavigation.utils.TypefaceLoader;
 
 import java.util.List;
 
@@ -29,12 +40,43 @@ public abstract class NavigationApplication extends Application implements React
 
     @Override
     public void onCreate() {
+        NavigationMetrics.instance.startColdStart();
         super.onCreate();
         instance = this;
         handler = new Handler(getMainLooper());
         reactGateway = new NavigationReactGateway();
         eventEmitter = new EventEmitter(reactGateway);
         activityCallbacks = new ActivityCallbacks();
+        if (cacheLaunchLayout()) {
+            LaunchLayoutCache.instance.load();
+        }
+        if (startReactContextOnAppCreate() && !ReactDevPermission.shouldAskPermission()) {
+            startReactContextOnceInBackgroundAndExecuteJS();
+            prewarmInBackground();
+        }
+        NavigationMetrics.instance.markColdStart(NavigationMetrics.Phase.AppCreate);
+    }
+
+    private void prewarmInBackground() {
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                TypefaceLoader.preloadAssetFonts();
+                ResourceDrawableIdHelper.instance.preloadResourceDrawableIds(NavigationApplication.this);
+            }
+        }, "NavigationPrewarm").start();
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+        ImageLoader.trimMemory(level);
+        if (level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW ||
+            level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL ||
+            level >= getScreenHibernationTrimLevel()) {
+            EventBus.instance.postOnMain(new TrimMemoryEvent(level));
+        }
     }
 
     @Override
@@ -116,6 +158,53 @@ public abstract class NavigationApplication extends Application implements React
         return null;
     }
 
+    /**
+     * Override to apply navigation commands at the start of a frame instead of as soon as they're parsed
+     */
+    public NavigationCommandsScheduler.Mode getNavigationCommandsSchedulingMode() {
+        return NavigationCommandsScheduler.Mode.Immediate;
+    }
+
+    /**
+     * Override to start creating the React context and loading the JS bundle in Application.onCreate, in parallel
+     * with the splash activity, instead of when the splash activity resumes. Fonts and drawable ids are loaded in the
+     * background at the same time. Ignored in debug builds until the overlay permission is granted.
+     * <p>
+     * Application.onCreate also runs when the process is started for a service, receiver or provider, so JS is then
+     * executed and its startApp call launches NavigationActivity even though no activity was opened. Only enable it if
+     * the app has no such components, or if its JS doesn't call startApp when started in the background.
+     */
+    public boolean startReactContextOnAppCreate() {
+        return false;
+    }
+
+    /**
+     * Override to store the layout sent by startApp on disk, and show its tabs, top bar and colors in the splash
+     * activity on the next cold start while the JS bundle loads. When JS starts the same layout again it replaces the
+     * placeholder without an animation.
+     */
+    public boolean cacheLaunchLayout() {
+        return false;
+    }
+
+    /**
+     * Override to unmount the React views of screens more than this many screens below the top of their stack, at
+     * least 1. Their params are kept and they're mounted again once a pop brings them back within this depth. By
+     * default screens are only unmounted when the system is low on memory.
+     */
+    public int getScreenHibernationDepth() {
+        return -1;
+    }
+
+    /**
+     * Override to change the trim level from which the screens below the top of their stack are unmounted while the
+     * app is in the background. By default that's only when the app is likely to be killed soon, not whenever it's
+     * backgrounded. Screens are also unmounted at RUNNING_LOW and RUNNING_CRITICAL while the app is in the foreground.
+     */
+    public int getScreenHibernationTrimLevel() {
+        return ComponentCallbacks2.TRIM_MEMORY_MODERATE;
+    }
+
     public abstract boolean isDebug();
 
     @Nullable
@@ -5,6 +5,9 @@ import android.os.Bundle;
 import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.ReadableMapKeySetIterator;
+import com.facebook.react.bridge.ReadableType;
+
+import java.util.ArrayList;
 
 public class BundleConverter {
     public static Bundle toBundle(ReadableMap map) {
@@ -19,7 +22,7 @@ public class BundleConverter {
                     bundle.putBoolean(key, map.getBoolean(key));
                     break;
                 case Number:
-                    putNumber(bundle, map, key);
+                    putNumber(bundle, key, map.getDouble(key));
                     break;
                 case String:
                     bundle.putString(key, map.getString(key));
@@ -28,7 +31,7 @@ public class BundleConverter {
                     bundle.putBundle(key, toBundle(map.getMap(key)));
                     break;
                 case Array:
-                    bundle.putBundle(key, toBundle(map.getArray(key)));
+                    putArray(bundle, key, map.getArray(key));
                     break;
                 default:
                     break;
@@ -37,12 +40,89 @@ public class BundleConverter {
         return bundle;
     }
 
-    private static void putNumber(Bundle bundle, ReadableMap map, String key) {
-        try {
-            bundle.putInt(key, map.getInt(key));
-        } catch (Exception e) {
-            bundle.putDouble(key, map.getDouble(key));
+    private static void putNumber(Bundle bundle, String key, double value) {
+        if (isInteger(value)) {
+            bundle.putInt(key, (int) value);
+        } else {
+            bundle.putDouble(key, value);
+        }
+    }
+
+    static boolean isInteger(double value) {
+        return value == Math.rint(value) && value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Arrays of a single type are stored as typed lists: maps as ArrayList&lt;Bundle&gt;, numbers as double[],
+     * strings as String[] and booleans as boolean[]. Empty arrays are stored as an empty ArrayList&lt;Bundle&gt;.
+     * Arrays with mixed types, nulls or nested arrays fall back to a Bundle keyed by index.
+     */
+    private static void putArray(Bundle bundle, String key, ReadableArray array) {
+        switch (getElementType(array)) {
+            case Map:
+                bundle.putParcelableArrayList(key, toBundleList(array));
+                break;
+            case Number:
+                bundle.putDoubleArray(key, toDoubleArray(array));
+                break;
+            case String:
+                bundle.putStringArray(key, toStringArray(array));
+                break;
+            case Boolean:
+                bundle.putBooleanArray(key, toBooleanArray(array));
+                break;
+            default:
+                bundle.putBundle(key, toBundle(array));
+                break;
+        }
+    }
+
+    /**
+     * @return the type shared by all elements, Map for an empty array and Null if the elements differ in type
+     */
+    private static ReadableType getElementType(ReadableArray array) {
+        if (array.size() == 0) {
+            return ReadableType.Map;
+        }
+        ReadableType type = array.getType(0);
+        for (int i = 1; i < array.size(); i++) {
+            if (array.getType(i) != type) {
+                return ReadableType.Null;
+            }
+        }
+        return type;
+    }
+
+    private static ArrayList<Bundle> toBundleList(ReadableArray array) {
+        ArrayList<Bundle> result = new ArrayList<>(array.size());
+        for (int i = 0; i < array.size(); i++) {
+            result.add(toBundle(array.getMap(i)));
+        }
+        return result;
+    }
+
+    private static double[] toDoubleArray(ReadableArray array) {
+        double[] result = new double[array.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = array.getDouble(i);
+        }
+        return result;
+    }
+
+    private static String[] toStringArray(ReadableArray array) {
+        String[] result = new String[array.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = array.getString(i);
+        }
+        return result;
+    }
+
+    private static boolean[] toBooleanArray(ReadableArray array) {
+        boolean[] result = new boolean[array.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = array.getBoolean(i);
         }
+        return result;
     }
 
     public static Bundle toBundle(ReadableArray array) {
@@ -0,0 +1,130 @@
+package com.reactnativenavigation.bridge;
+
+import android.support.annotation.Nullable;
+import android.util.Log;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Holds the events sent before the React context is initialized, so they can be sent to JS in one batch once it is.
+ * Navigator events are held until their navigator declares interest in events, since no navigator listens when the
+ * context is initialized. An event replaces an earlier event with the same id sent to the same JS emitter, since only
+ * the latest state, such as the current orientation, matters. At most {@link #CAPACITY} events are kept.
+ */
+class EarlyEvents {
+    interface Filter {
+        boolean accept(String navigatorEventId, String eventId, @Nullable String type);
+    }
+
+    private static final String TAG = "EarlyEvents";
+    private static final int CAPACITY = 64;
+
+    private final Map<String, Event> events = new LinkedHashMap<>();
+
+    /**
+     * @param name             the JS emitter the event is sent to
+     * @param navigatorEventId set for navigator events, added to the event's data along with its id
+     * @param type             added to the event's data if set
+     * @param data             a WritableMap, a String or null for an empty map
+     */
+    synchronized void add(String name, String eventId, @Nullable String navigatorEventId, @Nullable String type, @Nullable Object data) {
+        String key = name + "/" + eventId;
+        events.remove(key);
+        if (events.size() == CAPACITY) {
+            Iterator<String> eldest = events.keySet().iterator();
+            Log.w(TAG, "Too many events sent before the React context was initialized, dropping " + eldest.next());
+            eldest.remove();
+        }
+        events.put(key, new Event(name, eventId, navigatorEventId, type, data));
+    }
+
+    /**
+     * @return the held events which aren't sent to a navigator as {name, data} maps in the order they were sent, or
+     * null if there are none
+     */
+    @Nullable
+    synchronized WritableArray drain() {
+        WritableArray result = null;
+        Iterator<Event> iterator = events.values().iterator();
+        while (iterator.hasNext()) {
+            Event event = iterator.next();
+            if (event.navigatorEventId == null) {
+                iterator.remove();
+                result = add(result, event);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the events held for the navigator
+     *
+     * @param filter null to drop them, otherwise decides which of them are returned
+     * @return the events accepted by the filter as {name, data} maps in the order they were sent, or null if there
+     * are none
+     */
+    @Nullable
+    synchronized WritableArray drain(String navigatorEventId, @Nullable Filter filter) {
+        WritableArray result = null;
+        Iterator<Event> iterator = events.values().iterator();
+        while (iterator.hasNext()) {
+            Event event = iterator.next();
+            if (navigatorEventId.equals(event.navigatorEventId)) {
+                iterator.remove();
+                if (filter != null && filter.accept(navigatorEventId, event.eventId, event.type)) {
+                    result = add(result, event);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static WritableArray add(@Nullable WritableArray result, Event event) {
+        if (result == null) {
+            result = Arguments.createArray();
+        }
+        result.pushMap(event.toMap());
+        return result;
+    }
+
+    private static class Event {
+        private final String name;
+        private final String eventId;
+        @Nullable private final String navigatorEventId;
+        @Nullable private final String type;
+        @Nullable private final Object data;
+
+        Event(String name, String eventId, @Nullable String navigatorEventId, @Nullable String type, @Nullable Object data) {
+            this.name = name;
+            this.eventId = eventId;
+            this.navigatorEventId = navigatorEventId;
+            this.type = type;
+            this.data = data;
+        }
+
+        WritableMap toMap() {
+            WritableMap result = Arguments.createMap();
+            result.putString("name", name);
+            if (data instanceof String) {
+                result.putString("data", (String) data);
+                return result;
+            }
+            WritableMap payload = data == null ? Arguments.createMap() : (WritableMap) data;
+            if (type != null) {
+                payload.putString("type", type);
+            }
+            if (navigatorEventId != null) {
+                payload.putString("id", eventId);
+                payload.putString("navigatorEventID", navigatorEventId);
+            }
+            result.putMap("data", payload);
+            return result;
+        }
+    }
+}
@@ -1,55 +1,195 @@
 package com.reactnativenavigation.bridge;
 
+import android.support.annotation.Nullable;
+import android.view.Choreographer;
+
 import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.reactnativenavigation.NavigationApplication;
 import com.reactnativenavigation.react.ReactGateway;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Screen lifecycle events (willAppear, didAppear, willDisappear, didDisappear) are sent to JS once per frame as a
+ * single array, which JS emits to each navigator in order. Pending lifecycle events are always sent before any other
+ * event so JS sees events in the order they happened.
+ * <p>
+ * Navigator events are only sent if the navigator's JS code declared interest in them, see
+ * {@link #setNavigatorEventInterest(String, Collection)}.
+ * <p>
+ * Events sent before the React context is initialized are held by {@link EarlyEvents} and sent together once it is.
+ * Navigator events among them are sent once their navigator declares interest in them.
+ * <p>
+ * Events are sent from the main thread only.
+ */
 public class EventEmitter {
+    private static final String SCREEN_CHANGED_EVENTS = "navigatorScreenChangedEvents";
+    private static final String EARLY_EVENTS = "navigatorEarlyEvents";
+    private static final String ALL_EVENTS = "*";
+    private static final String SCREEN_CHANGED_EVENT_TYPE = "ScreenChangedEvent";
+    private static final String BUTTON_PRESS_EVENT_TYPE = "NavBarButtonPress";
+
     private ReactGateway reactGateway;
+    private final Map<String, Set<String>> navigatorEventInterest = new ConcurrentHashMap<>();
+    private final EarlyEvents earlyEvents = new EarlyEvents();
+    private WritableArray pendingScreenChangedEvents;
+    private final Choreographer.FrameCallback sendPendingScreenChangedEvents = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            sendPendingScreenChangedEvents();
+        }
+    };
 
     public EventEmitter(ReactGateway reactGateway) {
         this.reactGateway = reactGateway;
     }
 
+    public void onReactContextInitialized() {
+        WritableArray events = earlyEvents.drain();
+        if (events != null) {
+            reactGateway.getReactEventEmitter().sendEvent(EARLY_EVENTS, events);
+        }
+    }
+
+    /**
+     * Declares which events a navigator's JS code handles. Events match by id, lifecycle events also by the
+     * ScreenChangedEvent type and button presses by the NavBarButtonPress type, and "*" matches every event.
+     * Navigators declare an empty interest when created and their handler's interest once it's set, so events are
+     * only sent to navigators which handle them. Navigators which never declared their interest, or were forgotten,
+     * receive all events. Can be called from any thread.
+     *
+     * @param eventTypes null to forget the navigator
+     */
+    public void setNavigatorEventInterest(final String navigatorEventId, @Nullable Collection<String> eventTypes) {
+        if (navigatorEventId == null) {
+            return;
+        }
+        if (eventTypes == null) {
+            navigatorEventInterest.remove(navigatorEventId);
+            earlyEvents.drain(navigatorEventId, null);
+        } else {
+            navigatorEventInterest.put(navigatorEventId, new HashSet<>(eventTypes));
+            if (!eventTypes.isEmpty()) {
+                NavigationApplication.instance.runOnMainThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        sendEarlyEvents(navigatorEventId);
+                    }
+                });
+            }
+        }
+    }
+
+    private void sendEarlyEvents(String navigatorEventId) {
+        WritableArray events = earlyEvents.drain(navigatorEventId, new EarlyEvents.Filter() {
+            @Override
+            public boolean accept(String navigatorEventId, String eventId, @Nullable String type) {
+                return hasListener(navigatorEventId, eventId, type);
+            }
+        });
+        if (events != null && NavigationApplication.instance.isReactContextInitialized()) {
+            sendPendingScreenChangedEvents();
+            reactGateway.getReactEventEmitter().sendEvent(EARLY_EVENTS, events);
+        }
+    }
+
+    public boolean hasListener(String navigatorEventId, String eventId) {
+        return hasListener(navigatorEventId, eventId, null);
+    }
+
+    private boolean hasListener(String navigatorEventId, String eventId, @Nullable String type) {
+        Set<String> interest = navigatorEventId == null ? null : navigatorEventInterest.get(navigatorEventId);
+        return interest == null ||
+               interest.contains(ALL_EVENTS) ||
+               interest.contains(eventId) ||
+               (type != null && interest.contains(type));
+    }
+
     public void sendScreenChangedEvent(String eventId, String navigatorEventId) {
+        if (!hasListener(navigatorEventId, eventId, SCREEN_CHANGED_EVENT_TYPE)) {
+            return;
+        }
+        if (!NavigationApplication.instance.isReactContextInitialized()) {
+            earlyEvents.add(navigatorEventId, eventId, navigatorEventId, SCREEN_CHANGED_EVENT_TYPE, null);
+            return;
+        }
         WritableMap map = Arguments.createMap();
-        map.putString("type", "ScreenChangedEvent");
-        sendNavigatorEvent(eventId, navigatorEventId, map);
+        map.putString("type", SCREEN_CHANGED_EVENT_TYPE);
+        map.putString("id", eventId);
+        map.putString("navigatorEventID", navigatorEventId);
+        if (pendingScreenChangedEvents == null) {
+            pendingScreenChangedEvents = Arguments.createArray();
+            Choreographer.getInstance().postFrameCallback(sendPendingScreenChangedEvents);
+        }
+        pendingScreenChangedEvents.pushMap(map);
+    }
+
+    private void sendPendingScreenChangedEvents() {
+        if (pendingScreenChangedEvents == null) {
+            return;
+        }
+        Choreographer.getInstance().removeFrameCallback(sendPendingScreenChangedEvents);
+        WritableArray events = pendingScreenChangedEvents;
+        pendingScreenChangedEvents = null;
+        if (NavigationApplication.instance.isReactContextInitialized()) {
+            reactGateway.getReactEventEmitter().sendEvent(SCREEN_CHANGED_EVENTS, events);
+        }
     }
 
     public void sendNavigatorEvent(String eventId, String navigatorEventId) {
+        if (!hasListener(navigatorEventId, eventId, BUTTON_PRESS_EVENT_TYPE)) {
+            return;
+        }
         if (!NavigationApplication.instance.isReactContextInitialized()) {
+            earlyEvents.add(navigatorEventId, eventId, navigatorEventId, BUTTON_PRESS_EVENT_TYPE, null);
             return;
         }
+        sendPendingScreenChangedEvents();
         reactGateway.getReactEventEmitter().sendNavigatorEvent(eventId, navigatorEventId);
     }
 
     public void sendNavigatorEvent(String eventId, String navigatorEventId, WritableMap data) {
+        if (!hasListener(navigatorEventId, eventId)) {
+            return;
+        }
         if (!NavigationApplication.instance.isReactContextInitialized()) {
+            earlyEvents.add(navigatorEventId, eventId, navigatorEventId, null, data);
             return;
         }
+        sendPendingScreenChangedEvents();
         reactGateway.getReactEventEmitter().sendNavigatorEvent(eventId, navigatorEventId, data);
     }
 
     public void sendEvent(String eventId, String navigatorEventId) {
         if (!NavigationApplication.instance.isReactContextInitialized()) {
+            earlyEvents.add(eventId, eventId, null, null, navigatorEventId);
             return;
         }
+        sendPendingScreenChangedEvents();
         reactGateway.getReactEventEmitter().sendEvent(eventId, navigatorEventId);
     }
 
     public void sendNavigatorEvent(String eventId, WritableMap arguments) {
         if (!NavigationApplication.instance.isReactContextInitialized()) {
+            earlyEvents.add(eventId, eventId, null, null, arguments);
             return;
         }
+        sendPendingScreenChangedEvents();
         reactGateway.getReactEventEmitter().sendEvent(eventId, arguments);
     }
 
     public void sendEvent(String eventId) {
         if (!NavigationApplication.instance.isReactContextInitialized()) {
+            earlyEvents.add(eventId, eventId, null, null, null);
             return;
         }
+        sendPendingScreenChangedEvents();
         reactGateway.getReactEventEmitter().sendEvent(eventId, Arguments.createMap());
     }
 }
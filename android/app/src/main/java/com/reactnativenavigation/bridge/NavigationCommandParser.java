@@ -0,0 +1,89 @@
+package com.reactnativenavigation.bridge;
+
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.reactnativenavigation.controllers.NavigationCommand;
+import com.reactnativenavigation.params.FabParams;
+import com.reactnativenavigation.params.TitleBarButtonParams;
+import com.reactnativenavigation.params.TitleBarLeftButtonParams;
+import com.reactnativenavigation.params.parsers.FabParamsParser;
+import com.reactnativenavigation.params.parsers.ScreenParamsParser;
+import com.reactnativenavigation.params.parsers.TitleBarButtonParamsParser;
+import com.reactnativenavigation.params.parsers.TitleBarLeftButtonParamsParser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses the commands passed to {@link NavigationReactModule#executeBatch}. Each command is a map of the form
+ * {command: 'push', params: {...}} or {command: 'setScreenTitleBarTitle', screenInstanceId: '...', title: '...'}
+ */
+class NavigationCommandParser {
+
+    List<NavigationCommand> parse(ReadableArray commands) {
+        List<NavigationCommand> result = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            result.add(parseCommand(commands.getMap(i)));
+        }
+        return result;
+    }
+
+    private NavigationCommand parseCommand(ReadableMap command) {
+        String name = command.hasKey("command") ? command.getString("command") : null;
+        try {
+            return parseCommand(name, command);
+        } catch (RuntimeException e) {
+            return NavigationCommand.failed(name, e);
+        }
+    }
+
+    private NavigationCommand parseCommand(String name, ReadableMap command) {
+        if (name == null) {
+            throw new IllegalArgumentException("Batched command is missing the 'command' key");
+        }
+        switch (name) {
+            case "push":
+                return NavigationCommand.push(ScreenParamsParser.parse(new ReadableMapReader(command.getMap("params"))));
+            case "pop":
+                return NavigationCommand.pop(ScreenParamsParser.parse(new ReadableMapReader(command.getMap("params"))));
+            case "popToRoot":
+                return NavigationCommand.popToRoot(ScreenParamsParser.parse(new ReadableMapReader(command.getMap("params"))));
+            case "newStack":
+                return NavigationCommand.newStack(ScreenParamsParser.parse(new ReadableMapReader(command.getMap("params"))));
+            case "showModal":
+                return NavigationCommand.showModal(ScreenParamsParser.parse(new ReadableMapReader(command.getMap("params"))));
+            case "setScreenTitleBarTitle":
+                return NavigationCommand.setScreenTitleBarTitle(command.getString("screenInstanceId"), command.getString("title"));
+            case "setScreenTitleBarSubtitle":
+                return NavigationCommand.setScreenTitleBarSubtitle(command.getString("screenInstanceId"), command.getString("subtitle"));
+            case "setScreenStyle":
+                return NavigationCommand.setScreenStyle(command.getString("screenInstanceId"), new ReadableMapReader(command.getMap("style")));
+            case "setScreenButtons":
+                return parseScreenButtons(command);
+            default:
+                throw new IllegalArgumentException("Unsupported batched command: " + name);
+        }
+    }
+
+    private NavigationCommand parseScreenButtons(ReadableMap command) {
+        String screenInstanceId = command.getString("screenInstanceId");
+        String navigatorEventId = command.getString("navigatorEventId");
+        List<TitleBarButtonParams> rightButtons = null;
+        if (hasValue(command, "rightButtons")) {
+            rightButtons = new TitleBarButtonParamsParser().parseButtons(ReadableMapReader.of(command.getArray("rightButtons")));
+        }
+        TitleBarLeftButtonParams leftButton = null;
+        if (hasValue(command, "leftButton")) {
+            leftButton = new TitleBarLeftButtonParamsParser().parseSingleButton(new ReadableMapReader(command.getMap("leftButton")));
+        }
+        FabParams fab = null;
+        if (hasValue(command, "fab")) {
+            fab = new FabParamsParser().parse(new ReadableMapReader(command.getMap("fab")), navigatorEventId, screenInstanceId);
+        }
+        return NavigationCommand.setScreenButtons(screenInstanceId, navigatorEventId, rightButtons, leftButton, fab);
+    }
+
+    private boolean hasValue(ReadableMap map, String key) {
+        return map.hasKey(key) && !map.isNull(key);
+    }
+}
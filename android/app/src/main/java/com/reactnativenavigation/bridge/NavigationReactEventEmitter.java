@@ -2,6 +2,7 @@ package com.reactnativenavigation.bridge;
 
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.ReactContext;
+import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.modules.core.DeviceEventManagerModule.RCTDeviceEventEmitter;
 
@@ -38,4 +39,8 @@ public class NavigationReactEventEmitter {
     public void sendEvent(String eventId, WritableMap data) {
         eventEmitter.emit(eventId, data);
     }
+
+    public void sendEvent(String eventId, WritableArray data) {
+        eventEmitter.emit(eventId, data);
+    }
 }
@@ -1,5 +1,7 @@
 package com.reactnativenavigation.bridge;
 
+import android.support.annotation.Nullable;
+
 import com.facebook.react.bridge.Callback;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
@@ -7,24 +9,14 @@ import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
 import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
+import com.reactnativenavigation.NavigationApplication;
+import com.reactnativenavigation.controllers.NavigationCommand;
 import com.reactnativenavigation.controllers.NavigationCommandsHandler;
-import com.reactnativenavigation.params.ContextualMenuParams;
-import com.reactnativenavigation.params.FabParams;
-import com.reactnativenavigation.params.LightBoxParams;
-import com.reactnativenavigation.params.SlidingOverlayParams;
-import com.reactnativenavigation.params.SnackbarParams;
-import com.reactnativenavigation.params.TitleBarButtonParams;
-import com.reactnativenavigation.params.TitleBarLeftButtonParams;
-import com.reactnativenavigation.params.parsers.ContextualMenuParamsParser;
-import com.reactnativenavigation.params.parsers.FabParamsParser;
-import com.reactnativenavigation.params.parsers.LightBoxParamsParser;
-import com.reactnativenavigation.params.parsers.SlidingOverlayParamsParser;
-import com.reactnativenavigation.params.parsers.SnackbarParamsParser;
-import com.reactnativenavigation.params.parsers.TitleBarButtonParamsParser;
-import com.reactnativenavigation.params.parsers.TitleBarLeftButtonParamsParser;
 import com.reactnativenavigation.views.SideMenu.Side;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 /**
  * The basic abstract components we will expose:
@@ -52,13 +44,13 @@ public class NavigationReactModule extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void startApp(final ReadableMap params) {
-        NavigationCommandsHandler.startApp(BundleConverter.toBundle(params));
+        NavigationCommandsHandler.startApp(new ReadableMapReader(params));
     }
 
     @ReactMethod
 	public void updateDrawerToScreen(ReadableMap params)
 	{
-		NavigationCommandsHandler.updateDrawerToScreen(BundleConverter.toBundle(params));
+		NavigationCommandsHandler.updateDrawerToScreen(new ReadableMapReader(params));
 	}
 
     @ReactMethod
@@ -71,6 +63,13 @@ public class NavigationReactModule extends ReactContextBaseJavaModule {
 
 	}
 
+    @ReactMethod
+    public void prefetchScreen(String screenId, @Nullable ReadableMap passProps, ReadableMap navigationParams) {
+        NavigationCommandsHandler.prefetchScreen(screenId,
+                passProps == null ? null : new ReadableMapReader(passProps),
+                new ReadableMapReader(navigationParams));
+    }
+
     @ReactMethod
     public void setScreenTitleBarTitle(String screenInstanceId, String title) {
         NavigationCommandsHandler.setScreenTitleBarTitle(screenInstanceId, title);
@@ -84,47 +83,26 @@ public class NavigationReactModule extends ReactContextBaseJavaModule {
     @ReactMethod
     public void setScreenButtons(String screenInstanceId, String navigatorEventId,
                                  ReadableArray rightButtonsParams, ReadableMap leftButtonParams, ReadableMap fab) {
-        if (rightButtonsParams != null) {
-            setScreenTitleBarRightButtons(screenInstanceId, navigatorEventId, rightButtonsParams);
-        }
-        if (leftButtonParams != null) {
-            setScreenTitleBarLeftButton(screenInstanceId, navigatorEventId, leftButtonParams);
-        }
-        if (fab != null) {
-            setScreenFab(screenInstanceId, navigatorEventId, fab);
-        }
-    }
-
-    private void setScreenTitleBarRightButtons(String screenInstanceId, String navigatorEventId, ReadableArray rightButtonsParams) {
-        List<TitleBarButtonParams> rightButtons = new TitleBarButtonParamsParser()
-                .parseButtons(BundleConverter.toBundle(rightButtonsParams));
-        NavigationCommandsHandler.setScreenTitleBarRightButtons(screenInstanceId, navigatorEventId, rightButtons);
-    }
-
-    private void setScreenTitleBarLeftButton(String screenInstanceId, String navigatorEventId, ReadableMap leftButtonParams) {
-        TitleBarLeftButtonParams leftButton = new TitleBarLeftButtonParamsParser()
-                .parseSingleButton(BundleConverter.toBundle(leftButtonParams));
-        NavigationCommandsHandler.setScreenTitleBarLeftButtons(screenInstanceId, navigatorEventId, leftButton);
-    }
-
-    private void setScreenFab(String screenInstanceId, String navigatorEventId, ReadableMap fab) {
-        FabParams fabParams = new FabParamsParser().parse(BundleConverter.toBundle(fab), navigatorEventId, screenInstanceId);
-        NavigationCommandsHandler.setScreenFab(screenInstanceId, navigatorEventId, fabParams);
+        NavigationCommandsHandler.setScreenButtons(screenInstanceId,
+                navigatorEventId,
+                rightButtonsParams == null ? null : ReadableMapReader.of(rightButtonsParams),
+                leftButtonParams == null ? null : new ReadableMapReader(leftButtonParams),
+                fab == null ? null : new ReadableMapReader(fab));
     }
 
     @ReactMethod
     public void setScreenStyle(String screenInstanceId, ReadableMap style) {
-        NavigationCommandsHandler.setScreenStyle(screenInstanceId, BundleConverter.toBundle(style));
+        NavigationCommandsHandler.setScreenStyle(screenInstanceId, new ReadableMapReader(style));
     }
 
     @ReactMethod
     public void setBottomTabButtonByIndex(Integer index, final ReadableMap params) {
-        NavigationCommandsHandler.setBottomTabButtonByIndex(index, BundleConverter.toBundle(params));
+        NavigationCommandsHandler.setBottomTabButtonByIndex(index, new ReadableMapReader(params));
     }
 
     @ReactMethod
     public void setBottomTabButtonByNavigatorId(String navigatorId, final ReadableMap params) {
-        NavigationCommandsHandler.setBottomTabButtonByNavigatorId(navigatorId, BundleConverter.toBundle(params));
+        NavigationCommandsHandler.setBottomTabButtonByNavigatorId(navigatorId, new ReadableMapReader(params));
     }
 
     @ReactMethod
@@ -186,34 +164,33 @@ public class NavigationReactModule extends ReactContextBaseJavaModule {
     }
 
     @ReactMethod
-    public void push(final ReadableMap params) {
-        NavigationCommandsHandler.push(BundleConverter.toBundle(params));
+    public void push(final ReadableMap params, Promise promise) {
+        NavigationCommandsHandler.push(new ReadableMapReader(params), promise);
     }
 
     @ReactMethod
-    public void pop(final ReadableMap params) {
-        NavigationCommandsHandler.pop(BundleConverter.toBundle(params));
+    public void pop(final ReadableMap params, Promise promise) {
+        NavigationCommandsHandler.pop(new ReadableMapReader(params), promise);
     }
 
     @ReactMethod
-    public void popToRoot(final ReadableMap params) {
-        NavigationCommandsHandler.popToRoot(BundleConverter.toBundle(params));
+    public void popToRoot(final ReadableMap params, Promise promise) {
+        NavigationCommandsHandler.popToRoot(new ReadableMapReader(params), promise);
     }
 
     @ReactMethod
-    public void newStack(final ReadableMap params) {
-        NavigationCommandsHandler.newStack(BundleConverter.toBundle(params));
+    public void newStack(final ReadableMap params, Promise promise) {
+        NavigationCommandsHandler.newStack(new ReadableMapReader(params), promise);
     }
 
     @ReactMethod
-    public void showModal(final ReadableMap params) {
-        NavigationCommandsHandler.showModal(BundleConverter.toBundle(params));
+    public void showModal(final ReadableMap params, Promise promise) {
+        NavigationCommandsHandler.showModal(new ReadableMapReader(params), promise);
     }
 
     @ReactMethod
     public void showLightBox(final ReadableMap params) {
-        LightBoxParams lbp = new LightBoxParamsParser(BundleConverter.toBundle(params)).parse();
-        NavigationCommandsHandler.showLightBox(lbp);
+        NavigationCommandsHandler.showLightBox(new ReadableMapReader(params));
     }
 
     @ReactMethod
@@ -233,8 +210,7 @@ public class NavigationReactModule extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void showSlidingOverlay(final ReadableMap params) {
-        SlidingOverlayParams slidingOverlayParams = new SlidingOverlayParamsParser().parse(BundleConverter.toBundle(params));
-        NavigationCommandsHandler.showSlidingOverlay(slidingOverlayParams);
+        NavigationCommandsHandler.showSlidingOverlay(new ReadableMapReader(params));
     }
 
     @ReactMethod
@@ -244,8 +220,7 @@ public class NavigationReactModule extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void showSnackbar(final ReadableMap params) {
-        SnackbarParams snackbarParams = new SnackbarParamsParser().parse(BundleConverter.toBundle(params));
-        NavigationCommandsHandler.showSnackbar(snackbarParams);
+        NavigationCommandsHandler.showSnackbar(new ReadableMapReader(params));
     }
 
     @ReactMethod
@@ -253,6 +228,21 @@ public class NavigationReactModule extends ReactContextBaseJavaModule {
         NavigationCommandsHandler.dismissSnackbar();
     }
 
+    @ReactMethod
+    public void executeBatch(final ReadableArray commands, Promise promise) {
+        NavigationCommandsHandler.executeBatch(new Callable<List<NavigationCommand>>() {
+            @Override
+            public List<NavigationCommand> call() {
+                return new NavigationCommandParser().parse(commands);
+            }
+        }, promise);
+    }
+
+    @ReactMethod
+    public void getNavigationMetrics(Promise promise) {
+        NavigationCommandsHandler.getNavigationMetrics(promise);
+    }
+
     @ReactMethod
     public void getOrientation(Promise promise) {
         NavigationCommandsHandler.getOrientation(promise);
@@ -263,6 +253,18 @@ public class NavigationReactModule extends ReactContextBaseJavaModule {
         NavigationCommandsHandler.isAppLaunched(promise);
     }
 
+    @ReactMethod
+    public void setNavigatorEventInterest(String navigatorEventId, @Nullable ReadableArray eventTypes) {
+        List<String> types = null;
+        if (eventTypes != null) {
+            types = new ArrayList<>(eventTypes.size());
+            for (int i = 0; i < eventTypes.size(); i++) {
+                types.add(eventTypes.getString(i));
+            }
+        }
+        NavigationApplication.instance.getEventEmitter().setNavigatorEventInterest(navigatorEventId, types);
+    }
+
     @ReactMethod
     public void getCurrentlyVisibleScreenId(Promise promise) {
         NavigationCommandsHandler.getCurrentlyVisibleScreenId(promise);
@@ -0,0 +1,175 @@
+package com.reactnativenavigation.bridge;
+
+import android.os.Bundle;
+import android.support.annotation.Nullable;
+
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableMapKeySetIterator;
+import com.facebook.react.bridge.ReadableType;
+import com.reactnativenavigation.params.parsers.ParamsReader;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads params straight from the ReadableMap received over the bridge.
+ * Values of an unexpected type are treated as missing, the same way Bundle getters behave.
+ */
+public class ReadableMapReader implements ParamsReader {
+    private final ReadableMap map;
+
+    public ReadableMapReader(ReadableMap map) {
+        this.map = map;
+    }
+
+    public static List<ParamsReader> of(ReadableArray array) {
+        List<ParamsReader> result = new ArrayList<>(array.size());
+        for (int i = 0; i < array.size(); i++) {
+            result.add(array.getType(i) == ReadableType.Map ? new ReadableMapReader(array.getMap(i)) : null);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean hasKey(String key) {
+        return map.hasKey(key) && !map.isNull(key);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !map.keySetIterator().hasNextKey();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        Set<String> result = new HashSet<>();
+        ReadableMapKeySetIterator iterator = map.keySetIterator();
+        while (iterator.hasNextKey()) {
+            result.add(iterator.nextKey());
+        }
+        return result;
+    }
+
+    @Nullable
+    @Override
+    public Object getValue(String key) {
+        if (!map.hasKey(key)) {
+            return null;
+        }
+        switch (map.getType(key)) {
+            case Boolean:
+                return map.getBoolean(key);
+            case Number:
+                return map.getDouble(key);
+            case String:
+                return map.getString(key);
+            case Map:
+                return new ReadableMapReader(map.getMap(key));
+            case Array:
+                return getValues(map.getArray(key));
+            default:
+                return null;
+        }
+    }
+
+    private static List<Object> getValues(ReadableArray array) {
+        List<Object> result = new ArrayList<>(array.size());
+        for (int i = 0; i < array.size(); i++) {
+            switch (array.getType(i)) {
+                case Boolean:
+                    result.add(array.getBoolean(i));
+                    break;
+                case Number:
+                    result.add(array.getDouble(i));
+                    break;
+                case String:
+                    result.add(array.getString(i));
+                    break;
+                case Map:
+                    result.add(new ReadableMapReader(array.getMap(i)));
+                    break;
+                case Array:
+                    result.add(getValues(array.getArray(i)));
+                    break;
+                default:
+                    result.add(null);
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    @Override
+    public String getString(String key) {
+        return getString(key, null);
+    }
+
+    @Override
+    public String getString(String key, String defaultValue) {
+        return is(key, ReadableType.String) ? map.getString(key) : defaultValue;
+    }
+
+    @Override
+    public boolean getBoolean(String key, boolean defaultValue) {
+        return is(key, ReadableType.Boolean) ? map.getBoolean(key) : defaultValue;
+    }
+
+    @Override
+    public int getInt(String key, int defaultValue) {
+        if (!is(key, ReadableType.Number)) {
+            return defaultValue;
+        }
+        // ReadableMap.getInt throws for fractional numbers, which the Bundle path treated as missing
+        double value = map.getDouble(key);
+        return value == Math.rint(value) ? (int) value : defaultValue;
+    }
+
+    @Override
+    public double getDouble(String key, double defaultValue) {
+        return is(key, ReadableType.Number) ? map.getDouble(key) : defaultValue;
+    }
+
+    @Nullable
+    @Override
+    public ParamsReader getMap(String key) {
+        return is(key, ReadableType.Map) ? new ReadableMapReader(map.getMap(key)) : null;
+    }
+
+    @Nullable
+    @Override
+    public List<ParamsReader> getList(String key) {
+        return is(key, ReadableType.Array) ? of(map.getArray(key)) : null;
+    }
+
+    @Nullable
+    @Override
+    public List<String> getStringList(String key) {
+        if (!is(key, ReadableType.Array)) {
+            return null;
+        }
+        ReadableArray array = map.getArray(key);
+        List<String> result = new ArrayList<>(array.size());
+        for (int i = 0; i < array.size(); i++) {
+            result.add(array.getType(i) == ReadableType.String ? array.getString(i) : null);
+        }
+        return result;
+    }
+
+    @Nullable
+    @Override
+    public Bundle getBundle(String key) {
+        return is(key, ReadableType.Map) ? BundleConverter.toBundle(map.getMap(key)) : null;
+    }
+
+    @Override
+    public Bundle toBundle() {
+        return BundleConverter.toBundle(map);
+    }
+
+    private boolean is(String key, ReadableType type) {
+        return map.hasKey(key) && map.getType(key) == type;
+    }
+}
@@ -0,0 +1,203 @@
+package com.reactnativenavigation.controllers;
+
+import android.os.Bundle;
+import android.support.annotation.Nullable;
+import android.util.Log;
+
+import com.reactnativenavigation.NavigationApplication;
+import com.reactnativenavigation.params.ActivityParams;
+import com.reactnativenavigation.params.AppStyle;
+import com.reactnativenavigation.params.parsers.ActivityParamsParser;
+import com.reactnativenavigation.utils.BundleCodec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the params of the last startApp on disk, so the next cold start can show the app's tabs, top bar and colors
+ * while the JS bundle loads. Enabled by {@link NavigationApplication#cacheLaunchLayout()}.
+ * <p>
+ * The layout is read and parsed in the background from Application.onCreate and written in the background after
+ * each startApp. Its app style is only used until the app sets its own, see {@link AppStyle#setLaunchLayoutAppStyle}. Props aren't stored, and props and the ids JS generates for each launch are ignored when checking
+ * whether JS started the cached layout again.
+ */
+public enum LaunchLayoutCache {
+    instance;
+
+    private static final String TAG = "LaunchLayoutCache";
+    private static final String FILE_NAME = "launch_layout.bin";
+    private static final long LOAD_TIMEOUT_MS = 500;
+    private static final Set<String> LAUNCH_SPECIFIC_KEYS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "passProps", "navigationParams", "screenInstanceID", "navigatorID", "navigatorEventID"
+    )));
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return new Thread(runnable, TAG);
+        }
+    });
+    private Future<CachedLayout> cachedLayout;
+    private volatile boolean placeholderShown;
+
+    /**
+     * Starts reading the cached layout. Called from Application.onCreate.
+     */
+    public synchronized void load() {
+        if (cachedLayout != null) {
+            return;
+        }
+        cachedLayout = executor.submit(new Callable<CachedLayout>() {
+            @Override
+            public CachedLayout call() throws Exception {
+                return read();
+            }
+        });
+    }
+
+    /**
+     * Doesn't wait for the layout to load, so it can be called on the main thread.
+     *
+     * @return the parsed layout of the last launch, or null if there's none or it isn't loaded yet
+     */
+    @Nullable
+    public ActivityParams getCachedLayout() {
+        Future<CachedLayout> future;
+        synchronized (this) {
+            future = cachedLayout;
+        }
+        if (future == null || !future.isDone()) {
+            return null;
+        }
+        try {
+            CachedLayout layout = future.get();
+            return layout == null ? null : layout.params;
+        } catch (Exception e) {
+            Log.w(TAG, "Can't read the cached launch layout", e);
+            return null;
+        }
+    }
+
+    void setPlaceholderShown(boolean placeholderShown) {
+        this.placeholderShown = placeholderShown;
+    }
+
+    /**
+     * Checks whether the placeholder on screen shows the layout JS just started, and stores the new layout for the next
+     * launch. Called on a background thread for each startApp.
+     */
+    boolean onStartApp(Bundle params) {
+        if (!NavigationApplication.instance.cacheLaunchLayout()) {
+            return false;
+        }
+        boolean shownLayoutStarted = false;
+        try {
+            byte[] signature = encode(params, LAUNCH_SPECIFIC_KEYS);
+            CachedLayout cached = awaitCachedLayout();
+            shownLayoutStarted = placeholderShown && cached != null && Arrays.equals(cached.signature, signature);
+            if (cached == null || !Arrays.equals(cached.signature, signature)) {
+                write(params);
+            }
+        } catch (IOException e) {
+            Log.w(TAG, "Can't cache the launch layout", e);
+        }
+        placeholderShown = false;
+        return shownLayoutStarted;
+    }
+
+    @Nullable
+    private CachedLayout awaitCachedLayout() {
+        Future<CachedLayout> future;
+        synchronized (this) {
+            future = cachedLayout;
+        }
+        if (future == null) {
+            return null;
+        }
+        try {
+            return future.get(LOAD_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            Log.w(TAG, "Can't read the cached launch layout", e);
+            return null;
+        }
+    }
+
+    @Nullable
+    private CachedLayout read() throws IOException {
+        File file = getFile();
+        if (!file.exists()) {
+            return null;
+        }
+        Bundle params;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            params = BundleCodec.read(in);
+        }
+        byte[] signature = encode(params, LAUNCH_SPECIFIC_KEYS);
+        if (!AppStyle.setLaunchLayoutAppStyle(params)) {
+            // The app has started, it's too late for a placeholder
+            return new CachedLayout(null, signature);
+        }
+        return new CachedLayout(ActivityParamsParser.parseLayout(params), signature);
+    }
+
+    private void write(final Bundle params) throws IOException {
+        final byte[] data = encode(params, Collections.singleton("passProps"));
+        final byte[] signature = encode(params, LAUNCH_SPECIFIC_KEYS);
+        synchronized (this) {
+            cachedLayout = executor.submit(new Callable<CachedLayout>() {
+                @Override
+                public CachedLayout call() throws Exception {
+                    File file = getFile();
+                    File temp = new File(file.getPath() + ".tmp");
+                    try (FileOutputStream out = new FileOutputStream(temp)) {
+                        out.write(data);
+                        out.getFD().sync();
+                    }
+                    if (!temp.renameTo(file)) {
+                        throw new IOException("Can't replace " + file);
+                    }
+                    return new CachedLayout(null, signature);
+                }
+            });
+        }
+    }
+
+    private static byte[] encode(Bundle params, Set<String> skippedKeys) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(bytes))) {
+            BundleCodec.write(out, params, skippedKeys);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static File getFile() {
+        return new File(NavigationApplication.instance.getFilesDir(), FILE_NAME);
+    }
+
+    private static class CachedLayout {
+        @Nullable final ActivityParams params;
+        final byte[] signature;
+
+        CachedLayout(@Nullable ActivityParams params, byte[] signature) {
+            this.params = params;
+            this.signature = signature;
+        }
+    }
+}
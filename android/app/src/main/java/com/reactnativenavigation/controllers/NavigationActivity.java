@@ -39,6 +39,7 @@ import com.reactnativenavigation.params.TitleBarLeftButtonParams;
 import com.reactnativenavigation.react.ReactGateway;
 import com.reactnativenavigation.screens.Screen;
 import com.reactnativenavigation.utils.OrientationHelper;
+import com.reactnativenavigation.views.ContentViewPrefetcher;
 import com.reactnativenavigation.views.SideMenu.Side;
 
 import java.util.List;
@@ -125,8 +126,9 @@ public class NavigationActivity extends AppCompatActivity implements DefaultHard
         IntentDataHandler.onResume(getIntent());
         getReactGateway().onResumeActivity(this, this);
         NavigationApplication.instance.getActivityCallbacks().onActivityResumed(this);
-        EventBus.instance.register(this);
+        EventBus.instance.register(this, ModalDismissedEvent.TYPE, JsDevReloadEvent.TYPE);
         IntentDataHandler.onPostResume(getIntent());
+        NavigationCommandsHandler.onActivityResumed();
     }
 
     @Override
@@ -161,6 +163,7 @@ public class NavigationActivity extends AppCompatActivity implements DefaultHard
     }
 
     private void destroyLayouts() {
+        ContentViewPrefetcher.instance.clear();
         if (modalController != null) {
             modalController.destroy();
         }
@@ -172,6 +175,7 @@ public class NavigationActivity extends AppCompatActivity implements DefaultHard
 
     private void destroyJsIfNeeded() {
         if (currentActivity == null || currentActivity.isFinishing()) {
+            NavigationCommandsHandler.onAppDestroyed();
             getReactGateway().onDestroyApp();
         }
     }
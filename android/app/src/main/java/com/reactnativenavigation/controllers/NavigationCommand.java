@@ -0,0 +1,368 @@
+package com.reactnativenavigation.controllers;
+
+import android.os.Bundle;
+import android.support.annotation.Nullable;
+import android.util.Log;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.WritableMap;
+import com.reactnativenavigation.params.FabParams;
+import com.reactnativenavigation.params.ScreenParams;
+import com.reactnativenavigation.params.TitleBarButtonParams;
+import com.reactnativenavigation.params.TitleBarLeftButtonParams;
+import com.reactnativenavigation.params.parsers.ParamsReader;
+import com.reactnativenavigation.params.parsers.StyleParamsParser;
+import com.reactnativenavigation.screens.ScreenTransition;
+import com.reactnativenavigation.utils.NavigationMetrics;
+
+import java.util.List;
+
+/**
+ * A single, already parsed, navigation command that can be applied on the main thread.
+ * Commands are created on the {@link NavigationCommandsPipeline} thread so that no parsing happens while applying them.
+ */
+public abstract class NavigationCommand {
+    private static final String TAG = "NavigationCommands";
+    private static final String COMMAND_FAILED = "NavigationCommandFailed";
+
+    private final String name;
+
+    NavigationCommand(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Commands which don't require an activity are executed with a null activity when none is available.
+     */
+    boolean requiresActivity() {
+        return true;
+    }
+
+    /**
+     * Commands which create screens are spread over frames by the frame aligned scheduler
+     */
+    boolean createsScreens() {
+        return false;
+    }
+
+    /**
+     * Commands with the same key which are issued within one frame are coalesced into a single command.
+     *
+     * @return null if this command is never coalesced
+     */
+    @Nullable
+    String getCoalescingKey() {
+        return null;
+    }
+
+    /**
+     * @return a command with the same effect as applying this command followed by the newer one
+     */
+    NavigationCommand coalesce(NavigationCommand newer) {
+        return newer;
+    }
+
+    abstract void execute(NavigationActivity activity);
+
+    /**
+     * Called instead of {@link #execute(NavigationActivity)} when the command is dropped without being applied.
+     * Commands which hold a promise reject it.
+     */
+    void reject(String code, String message) {
+    }
+
+    /**
+     * @return the error which kept this command from being parsed, or null if it was parsed
+     */
+    @Nullable
+    RuntimeException getError() {
+        return null;
+    }
+
+    public static NavigationCommand push(final ScreenParams params) {
+        return new NavigationCommand("push") {
+            @Override
+            boolean createsScreens() {
+                return true;
+            }
+
+            @Override
+            void execute(NavigationActivity activity) {
+                NavigationMetrics.instance.mark(params.getScreenInstanceId(), NavigationMetrics.Phase.Apply);
+                activity.push(params);
+            }
+        };
+    }
+
+    public static NavigationCommand pop(final ScreenParams params) {
+        return new NavigationCommand("pop") {
+            @Override
+            void execute(NavigationActivity activity) {
+                activity.pop(params);
+            }
+        };
+    }
+
+    public static NavigationCommand popToRoot(final ScreenParams params) {
+        return new NavigationCommand("popToRoot") {
+            @Override
+            void execute(NavigationActivity activity) {
+                activity.popToRoot(params);
+            }
+        };
+    }
+
+    public static NavigationCommand newStack(final ScreenParams params) {
+        return new NavigationCommand("newStack") {
+            @Override
+            boolean createsScreens() {
+                return true;
+            }
+
+            @Override
+            void execute(NavigationActivity activity) {
+                NavigationMetrics.instance.mark(params.getScreenInstanceId(), NavigationMetrics.Phase.Apply);
+                activity.newStack(params);
+            }
+        };
+    }
+
+    public static NavigationCommand showModal(final ScreenParams params) {
+        return new NavigationCommand("showModal") {
+            @Override
+            boolean createsScreens() {
+                return true;
+            }
+
+            @Override
+            void execute(NavigationActivity activity) {
+                NavigationMetrics.instance.mark(params.getScreenInstanceId(), NavigationMetrics.Phase.Apply);
+                activity.showModal(params);
+            }
+        };
+    }
+
+    public static NavigationCommand setScreenTitleBarTitle(final String screenInstanceId, final String title) {
+        return new NavigationCommand("setScreenTitleBarTitle") {
+            @Override
+            String getCoalescingKey() {
+                return screenInstanceId + "/title";
+            }
+
+            @Override
+            void execute(NavigationActivity activity) {
+                activity.setTitleBarTitle(screenInstanceId, title);
+            }
+        };
+    }
+
+    public static NavigationCommand setScreenTitleBarSubtitle(final String screenInstanceId, final String subtitle) {
+        return new NavigationCommand("setScreenTitleBarSubtitle") {
+            @Override
+            String getCoalescingKey() {
+                return screenInstanceId + "/subtitle";
+            }
+
+            @Override
+            void execute(NavigationActivity activity) {
+                activity.setTitleBarSubtitle(screenInstanceId, subtitle);
+            }
+        };
+    }
+
+    public static NavigationCommand setScreenButtons(String screenInstanceId,
+                                                     String navigatorEventId,
+                                                     @Nullable List<TitleBarButtonParams> rightButtons,
+                                                     @Nullable TitleBarLeftButtonParams leftButton,
+                                                     @Nullable FabParams fab) {
+        return new SetScreenButtons(screenInstanceId, navigatorEventId, rightButtons, leftButton, fab);
+    }
+
+    public static NavigationCommand setScreenStyle(String screenInstanceId, Bundle styleParams) {
+        return new SetScreenStyle(screenInstanceId, styleParams);
+    }
+
+    /**
+     * Loads the style's fonts, so it must be called off the main thread. The style is merged with the screen's
+     * current style when applied.
+     */
+    public static NavigationCommand setScreenStyle(String screenInstanceId, ParamsReader style) {
+        Bundle styleParams = style.toBundle();
+        new StyleParamsParser(styleParams).loadFonts();
+        return setScreenStyle(screenInstanceId, styleParams);
+    }
+
+    /**
+     * Resolves the promise once the screen transition started by the command ends, with the time it took to display
+     * the screen and to animate it. Commands which start no transition resolve right after they're applied.
+     * The promise is rejected if the command throws or if its screen stack is destroyed before the transition ends.
+     */
+    public static NavigationCommand resolveOnTransitionEnd(final NavigationCommand command,
+                                                           final String screenInstanceId,
+                                                           @Nullable final Promise promise) {
+        if (promise == null) {
+            return command;
+        }
+        return new NavigationCommand(command.getName()) {
+            @Override
+            boolean createsScreens() {
+                return command.createsScreens();
+            }
+
+            @Override
+            void reject(String code, String message) {
+                promise.reject(code, message);
+            }
+
+            @Override
+            void execute(final NavigationActivity activity) {
+                try {
+                    run(activity);
+                } catch (RuntimeException e) {
+                    promise.reject(COMMAND_FAILED, e);
+                }
+            }
+
+            private void run(final NavigationActivity activity) {
+                ScreenTransition.run(new ScreenTransition.Listener() {
+                    @Override
+                    public void onTransitionEnd(ScreenTransition transition) {
+                        WritableMap result = Arguments.createMap();
+                        result.putString("command", command.getName());
+                        result.putString("screenInstanceId", screenInstanceId);
+                        result.putDouble("displayTime", transition.getDisplayTime());
+                        result.putDouble("animationTime", transition.getAnimationTime());
+                        result.putDouble("totalTime", transition.getTotalTime());
+                        promise.resolve(result);
+                    }
+
+                    @Override
+                    public void onTransitionCancelled(ScreenTransition transition) {
+                        promise.reject(COMMAND_FAILED, command.getName() + " was cancelled, its screen stack was destroyed");
+                    }
+                }, new Runnable() {
+                    @Override
+                    public void run() {
+                        command.execute(activity);
+                    }
+                });
+            }
+        };
+    }
+
+    public static NavigationCommand failed(String name, RuntimeException error) {
+        return failed(name, error, null);
+    }
+
+    /**
+     * A command which could not be parsed. It is kept in the pipeline and in batches so its failure is reported in
+     * order, and logs the error or rejects the promise when applied instead of crashing the main thread.
+     */
+    public static NavigationCommand failed(final String name, final RuntimeException error, @Nullable final Promise promise) {
+        return new NavigationCommand(name) {
+            @Override
+            boolean requiresActivity() {
+                return false;
+            }
+
+            @Override
+            RuntimeException getError() {
+                return error;
+            }
+
+            @Override
+            void execute(NavigationActivity activity) {
+                if (promise == null) {
+                    Log.e(TAG, "Unable to parse " + name, error);
+                } else {
+                    promise.reject(COMMAND_FAILED, error);
+                }
+            }
+        };
+    }
+
+    private static class SetScreenButtons extends NavigationCommand {
+        private final String screenInstanceId;
+        private final String navigatorEventId;
+        @Nullable private final List<TitleBarButtonParams> rightButtons;
+        @Nullable private final TitleBarLeftButtonParams leftButton;
+        @Nullable private final FabParams fab;
+
+        SetScreenButtons(String screenInstanceId,
+                         String navigatorEventId,
+                         @Nullable List<TitleBarButtonParams> rightButtons,
+                         @Nullable TitleBarLeftButtonParams leftButton,
+                         @Nullable FabParams fab) {
+            super("setScreenButtons");
+            this.screenInstanceId = screenInstanceId;
+            this.navigatorEventId = navigatorEventId;
+            this.rightButtons = rightButtons;
+            this.leftButton = leftButton;
+            this.fab = fab;
+        }
+
+        @Override
+        String getCoalescingKey() {
+            return screenInstanceId + "/buttons";
+        }
+
+        /**
+         * Buttons which the newer command doesn't set are kept
+         */
+        @Override
+        NavigationCommand coalesce(NavigationCommand newer) {
+            SetScreenButtons other = (SetScreenButtons) newer;
+            return new SetScreenButtons(screenInstanceId,
+                    other.navigatorEventId,
+                    other.rightButtons != null ? other.rightButtons : rightButtons,
+                    other.leftButton != null ? other.leftButton : leftButton,
+                    other.fab != null ? other.fab : fab);
+        }
+
+        @Override
+        void execute(NavigationActivity activity) {
+            if (rightButtons != null) {
+                activity.setTitleBarButtons(screenInstanceId, navigatorEventId, rightButtons);
+            }
+            if (leftButton != null) {
+                activity.setTitleBarLeftButton(screenInstanceId, navigatorEventId, leftButton);
+            }
+            if (fab != null) {
+                activity.setScreenFab(screenInstanceId, navigatorEventId, fab);
+            }
+        }
+    }
+
+    private static class SetScreenStyle extends NavigationCommand {
+        private final String screenInstanceId;
+        private final Bundle styleParams;
+
+        SetScreenStyle(String screenInstanceId, Bundle styleParams) {
+            super("setScreenStyle");
+            this.screenInstanceId = screenInstanceId;
+            this.styleParams = styleParams;
+        }
+
+        @Override
+        String getCoalescingKey() {
+            return screenInstanceId + "/style";
+        }
+
+        @Override
+        NavigationCommand coalesce(NavigationCommand newer) {
+            Bundle merged = new Bundle(styleParams);
+            merged.putAll(((SetScreenStyle) newer).styleParams);
+            return new SetScreenStyle(screenInstanceId, merged);
+        }
+
+        @Override
+        void execute(NavigationActivity activity) {
+            activity.setScreenStyle(screenInstanceId, styleParams);
+        }
+    }
+}
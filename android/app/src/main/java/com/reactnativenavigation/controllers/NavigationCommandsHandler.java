@@ -2,34 +2,82 @@ package com.reactnativenavigation.controllers;
 
 import android.content.Intent;
 import android.os.Bundle;
+import android.support.annotation.Nullable;
 
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.reactnativenavigation.NavigationApplication;
 import com.reactnativenavigation.params.ActivityParams;
 import com.reactnativenavigation.params.FabParams;
 import com.reactnativenavigation.params.LightBoxParams;
+import com.reactnativenavigation.params.NavigationParams;
 import com.reactnativenavigation.params.ScreenParams;
 import com.reactnativenavigation.params.SlidingOverlayParams;
 import com.reactnativenavigation.params.SnackbarParams;
 import com.reactnativenavigation.params.TitleBarButtonParams;
 import com.reactnativenavigation.params.TitleBarLeftButtonParams;
 import com.reactnativenavigation.params.parsers.ActivityParamsParser;
+import com.reactnativenavigation.params.parsers.BundleReader;
+import com.reactnativenavigation.params.parsers.FabParamsParser;
+import com.reactnativenavigation.params.parsers.LightBoxParamsParser;
+import com.reactnativenavigation.params.parsers.ParamsReader;
 import com.reactnativenavigation.params.parsers.ScreenParamsParser;
+import com.reactnativenavigation.params.parsers.SlidingOverlayParamsParser;
+import com.reactnativenavigation.params.parsers.SnackbarParamsParser;
+import com.reactnativenavigation.params.parsers.TitleBarButtonParamsParser;
+import com.reactnativenavigation.params.parsers.TitleBarLeftButtonParamsParser;
+import com.reactnativenavigation.utils.NavigationMetrics;
 import com.reactnativenavigation.utils.OrientationHelper;
+import com.reactnativenavigation.views.ContentViewPrefetcher;
 import com.reactnativenavigation.views.SideMenu.Side;
 
 import java.util.List;
+import java.util.concurrent.Callable;
 
 public class NavigationCommandsHandler {
 
     private static final String ACTIVITY_PARAMS_BUNDLE = "ACTIVITY_PARAMS_BUNDLE";
+    private static final String PARSED_ACTIVITY_PARAMS_ID = "PARSED_ACTIVITY_PARAMS_ID";
+
+    private static final NavigationCommandsPipeline pipeline = new NavigationCommandsPipeline();
+    /**
+     * ActivityParams parsed by the last startApp in the background, until its activity takes them. Params of an
+     * earlier startApp are dropped, its activity parses them again if it's ever created. Accessed only on the main thread.
+     */
+    @Nullable private static ActivityParams parsedActivityParams;
+    private static int parsedActivityParamsId;
+    /**
+     * Whether startApp has launched NavigationActivity since the app was last destroyed, accessed only on the main thread
+     */
+    private static boolean appStarted;
 
     static ActivityParams parseActivityParams(Intent intent) {
+        if (parsedActivityParams != null && intent.getIntExtra(PARSED_ACTIVITY_PARAMS_ID, -1) == parsedActivityParamsId) {
+            ActivityParams parsed = parsedActivityParams;
+            parsedActivityParams = null;
+            return parsed;
+        }
         return ActivityParamsParser.parse(intent.getBundleExtra(NavigationCommandsHandler.ACTIVITY_PARAMS_BUNDLE));
     }
 
+    /**
+     * Replays the commands which were issued while no activity was resumed
+     */
+    static void onActivityResumed() {
+        pipeline.applyDeferredCommands();
+    }
+
+    static void onAppDestroyed() {
+        pipeline.clearDeferredCommands("AppDestroyed", "The app was destroyed before the command was applied");
+        appStarted = false;
+    }
+
+    static boolean hasStartedApp() {
+        return appStarted;
+    }
+
     /**
      * start a new activity with CLEAR_TASK | NEW_TASK
      *
@@ -37,184 +85,270 @@ public class NavigationCommandsHandler {
      */
 
     public static void startApp(Bundle params) {
-        Intent intent = new Intent(NavigationApplication.instance, NavigationActivity.class);
-        IntentDataHandler.onStartApp(intent);
-        intent.addFlags(Intent.FLAG_ACTIVITY_CLEAR_TASK | Intent.FLAG_ACTIVITY_NEW_TASK);
-        intent.putExtra(ACTIVITY_PARAMS_BUNDLE, params);
-        intent.putExtra("animationType", params.getString("animationType"));
-        NavigationApplication.instance.startActivity(intent);
+        startApp(new BundleReader(params));
     }
 
-    public static void updateDrawerToScreen(final Bundle params) {
-		final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-		if (currentActivity == null) {
-			return;
-		}
+    public static void startApp(final ParamsReader activityParams) {
+        NavigationMetrics.instance.markColdStart(NavigationMetrics.Phase.StartAppReceived);
+        pipeline.submit("startApp", new Callable<NavigationCommand>() {
+            @Override
+            public NavigationCommand call() {
+                final Bundle params = activityParams.toBundle();
+                final boolean replacesPlaceholder = LaunchLayoutCache.instance.onStartApp(params);
+                final ActivityParams parsed = ActivityParamsParser.parse(params);
+                if (replacesPlaceholder) {
+                    parsed.animateShow = false;
+                }
+                return new NavigationCommand("startApp") {
+                    @Override
+                    boolean requiresActivity() {
+                        return false;
+                    }
+
+                    @Override
+                    void execute(NavigationActivity activity) {
+                        pipeline.clearDeferredCommands("AppRestarted", "startApp was called before the command was applied");
+                        int id = ++parsedActivityParamsId;
+                        parsedActivityParams = parsed;
+
+                        Intent intent = new Intent(NavigationApplication.instance, NavigationActivity.class);
+                        IntentDataHandler.onStartApp(intent);
+                        intent.addFlags(Intent.FLAG_ACTIVITY_CLEAR_TASK | Intent.FLAG_ACTIVITY_NEW_TASK);
+                        intent.putExtra(ACTIVITY_PARAMS_BUNDLE, params);
+                        intent.putExtra(PARSED_ACTIVITY_PARAMS_ID, id);
+                        if (!replacesPlaceholder) {
+                            intent.putExtra("animationType", params.getString("animationType"));
+                        }
+                        NavigationApplication.instance.startActivity(intent);
+                        appStarted = true;
+                    }
+                };
+            }
+        });
+    }
+
+    public static void updateDrawerToScreen(Bundle params) {
+        updateDrawerToScreen(new BundleReader(params));
+    }
 
-		NavigationApplication.instance.runOnMainThread(new Runnable()
+    public static void updateDrawerToScreen(final ParamsReader screenParams) {
+		pipeline.submit("updateDrawerToScreen", new Callable<NavigationCommand>()
 		{
 			@Override
-			public void run()
+			public NavigationCommand call()
 			{
-				currentActivity.updateDrawerToScreen(ScreenParamsParser.parse(params));
+				final ScreenParams params = ScreenParamsParser.parse(screenParams);
+				return new NavigationCommand("updateDrawerToScreen")
+				{
+					@Override
+					boolean createsScreens()
+					{
+						return true;
+					}
+
+					@Override
+					void execute(NavigationActivity activity)
+					{
+						activity.updateDrawerToScreen(params);
+					}
+				};
 			}
 		});
 	}
 
     public static void push(Bundle screenParams) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
+        push(new BundleReader(screenParams));
+    }
+
+    public static void push(final ParamsReader screenParams) {
+        push(screenParams, null);
+    }
+
+    public static void push(final ParamsReader screenParams, @Nullable final Promise promise) {
+        final NavigationMetrics.Trace trace = NavigationMetrics.instance.start("push");
+        pipeline.submit("push", promise, new Callable<NavigationCommand>() {
+            @Override
+            public NavigationCommand call() {
+                ScreenParams params = parse(screenParams, trace);
+                return NavigationCommand.resolveOnTransitionEnd(NavigationCommand.push(params), params.getScreenInstanceId(), promise);
+            }
+        });
+    }
 
-        final ScreenParams params = ScreenParamsParser.parse(screenParams);
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+    /**
+     * Mounts the screen's React view before it's pushed, see {@link ContentViewPrefetcher}.
+     */
+    public static void prefetchScreen(final String screenId, @Nullable final ParamsReader passProps, final ParamsReader navigationParams) {
+        pipeline.submit("prefetchScreen", new Callable<NavigationCommand>() {
             @Override
-            public void run() {
-                currentActivity.push(params);
+            public NavigationCommand call() {
+                final NavigationParams params = new NavigationParams(navigationParams);
+                final Bundle props = passProps == null ? null : passProps.toBundle();
+                return new NavigationCommand("prefetchScreen") {
+                    @Override
+                    boolean createsScreens() {
+                        return true;
+                    }
+
+                    @Override
+                    void execute(NavigationActivity activity) {
+                        ContentViewPrefetcher.instance.prefetch(activity, screenId, params, props);
+                    }
+                };
             }
         });
     }
 
+    private static ScreenParams parse(ParamsReader screenParams, NavigationMetrics.Trace trace) {
+        ScreenParams params = ScreenParamsParser.parse(screenParams);
+        NavigationMetrics.instance.onParsed(trace, params.screenId, params.getScreenInstanceId());
+        return params;
+    }
+
     public static void pop(Bundle screenParams) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
+        pop(new BundleReader(screenParams));
+    }
+
+    public static void pop(final ParamsReader screenParams) {
+        pop(screenParams, null);
+    }
 
-        final ScreenParams params = ScreenParamsParser.parse(screenParams);
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+    public static void pop(final ParamsReader screenParams, @Nullable final Promise promise) {
+        pipeline.submit("pop", promise, new Callable<NavigationCommand>() {
             @Override
-            public void run() {
-                currentActivity.pop(params);
+            public NavigationCommand call() {
+                ScreenParams params = ScreenParamsParser.parse(screenParams);
+                return NavigationCommand.resolveOnTransitionEnd(NavigationCommand.pop(params), params.getScreenInstanceId(), promise);
             }
         });
     }
 
     public static void popToRoot(Bundle screenParams) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
+        popToRoot(new BundleReader(screenParams));
+    }
+
+    public static void popToRoot(final ParamsReader screenParams) {
+        popToRoot(screenParams, null);
+    }
 
-        final ScreenParams params = ScreenParamsParser.parse(screenParams);
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+    public static void popToRoot(final ParamsReader screenParams, @Nullable final Promise promise) {
+        pipeline.submit("popToRoot", promise, new Callable<NavigationCommand>() {
             @Override
-            public void run() {
-                currentActivity.popToRoot(params);
+            public NavigationCommand call() {
+                ScreenParams params = ScreenParamsParser.parse(screenParams);
+                return NavigationCommand.resolveOnTransitionEnd(NavigationCommand.popToRoot(params), params.getScreenInstanceId(), promise);
             }
         });
     }
 
     public static void newStack(Bundle screenParams) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
+        newStack(new BundleReader(screenParams));
+    }
 
-        final ScreenParams params = ScreenParamsParser.parse(screenParams);
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+    public static void newStack(final ParamsReader screenParams) {
+        newStack(screenParams, null);
+    }
+
+    public static void newStack(final ParamsReader screenParams, @Nullable final Promise promise) {
+        final NavigationMetrics.Trace trace = NavigationMetrics.instance.start("newStack");
+        pipeline.submit("newStack", promise, new Callable<NavigationCommand>() {
             @Override
-            public void run() {
-                currentActivity.newStack(params);
+            public NavigationCommand call() {
+                ScreenParams params = parse(screenParams, trace);
+                return NavigationCommand.resolveOnTransitionEnd(NavigationCommand.newStack(params), params.getScreenInstanceId(), promise);
             }
         });
     }
 
     public static void setTopBarVisible(final String screenInstanceID, final boolean hidden, final boolean animated) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
-
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        pipeline.submit(new NavigationCommand("setTopBarVisible") {
             @Override
-            public void run() {
-                currentActivity.setTopBarVisible(screenInstanceID, hidden, animated);
+            void execute(NavigationActivity activity) {
+                activity.setTopBarVisible(screenInstanceID, hidden, animated);
             }
         });
     }
 
     public static void setBottomTabsVisible(final boolean hidden, final boolean animated) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
-
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        pipeline.submit(new NavigationCommand("setBottomTabsVisible") {
             @Override
-            public void run() {
-                currentActivity.setBottomTabsVisible(hidden, animated);
+            void execute(NavigationActivity activity) {
+                activity.setBottomTabsVisible(hidden, animated);
             }
         });
     }
 
     public static void setScreenTitleBarTitle(final String screenInstanceId, final String title) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
-
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
-            @Override
-            public void run() {
-                currentActivity.setTitleBarTitle(screenInstanceId, title);
-            }
-        });
+        pipeline.submit(NavigationCommand.setScreenTitleBarTitle(screenInstanceId, title));
     }
 
     public static void setScreenTitleBarSubtitle(final String screenInstanceId, final String subtitle) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
+        pipeline.submit(NavigationCommand.setScreenTitleBarSubtitle(screenInstanceId, subtitle));
+    }
+
+    public static void showModal(Bundle params) {
+        showModal(new BundleReader(params));
+    }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+    public static void showModal(final ParamsReader screenParams) {
+        showModal(screenParams, null);
+    }
+
+    public static void showModal(final ParamsReader screenParams, @Nullable final Promise promise) {
+        final NavigationMetrics.Trace trace = NavigationMetrics.instance.start("showModal");
+        pipeline.submit("showModal", promise, new Callable<NavigationCommand>() {
             @Override
-            public void run() {
-                currentActivity.setTitleBarSubtitle(screenInstanceId, subtitle);
+            public NavigationCommand call() {
+                ScreenParams params = parse(screenParams, trace);
+                return NavigationCommand.resolveOnTransitionEnd(NavigationCommand.showModal(params), params.getScreenInstanceId(), promise);
             }
         });
     }
 
-    public static void showModal(final Bundle params) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
-
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+    public static void showLightBox(final ParamsReader params) {
+        pipeline.submit("showLightBox", new Callable<NavigationCommand>() {
             @Override
-            public void run() {
-                currentActivity.showModal(ScreenParamsParser.parse(params));
+            public NavigationCommand call() {
+                return showLightBoxCommand(new LightBoxParamsParser(params.toBundle()).parse());
             }
         });
     }
 
-    public static void showLightBox(final LightBoxParams params) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
+    public static void showLightBox(LightBoxParams params) {
+        pipeline.submit(showLightBoxCommand(params));
+    }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+    private static NavigationCommand showLightBoxCommand(final LightBoxParams params) {
+        return new NavigationCommand("showLightBox") {
             @Override
-            public void run() {
-                currentActivity.showLightBox(params);
+            void execute(NavigationActivity activity) {
+                activity.showLightBox(params);
             }
-        });
+        };
     }
 
     public static void dismissLightBox() {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
+        pipeline.submit(new NavigationCommand("dismissLightBox") {
+            @Override
+            void execute(NavigationActivity activity) {
+                activity.dismissLightBox();
+            }
+        });
+    }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+    public static void setScreenButtons(final String screenInstanceId,
+                                        final String navigatorEventId,
+                                        @Nullable final List<ParamsReader> rightButtons,
+                                        @Nullable final ParamsReader leftButton,
+                                        @Nullable final ParamsReader fab) {
+        pipeline.submit("setScreenButtons", new Callable<NavigationCommand>() {
             @Override
-            public void run() {
-                currentActivity.dismissLightBox();
+            public NavigationCommand call() {
+                return NavigationCommand.setScreenButtons(screenInstanceId,
+                        navigatorEventId,
+                        rightButtons == null ? null : new TitleBarButtonParamsParser().parseButtons(rightButtons),
+                        leftButton == null ? null : new TitleBarLeftButtonParamsParser().parseSingleButton(leftButton),
+                        fab == null ? null : new FabParamsParser().parse(fab, navigatorEventId, screenInstanceId));
             }
         });
     }
@@ -222,291 +356,315 @@ public class NavigationCommandsHandler {
     public static void setScreenTitleBarRightButtons(final String screenInstanceId,
                                                      final String navigatorEventId,
                                                      final List<TitleBarButtonParams> titleBarButtons) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
-
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
-            @Override
-            public void run() {
-                currentActivity.setTitleBarButtons(screenInstanceId, navigatorEventId, titleBarButtons);
-            }
-        });
+        pipeline.submit(NavigationCommand.setScreenButtons(screenInstanceId, navigatorEventId, titleBarButtons, null, null));
     }
 
     public static void setScreenTitleBarLeftButtons(final String screenInstanceId,
                                                     final String navigatorEventId,
                                                     final TitleBarLeftButtonParams titleBarButtons) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
-
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
-            @Override
-            public void run() {
-                currentActivity.setTitleBarLeftButton(screenInstanceId, navigatorEventId, titleBarButtons);
-            }
-        });
+        pipeline.submit(NavigationCommand.setScreenButtons(screenInstanceId, navigatorEventId, null, titleBarButtons, null));
     }
 
     public static void setScreenFab(final String screenInstanceId, final String navigatorEventId, final FabParams fab) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
-            @Override
-            public void run() {
-                currentActivity.setScreenFab(screenInstanceId, navigatorEventId, fab);
-            }
-        });
+        pipeline.submit(NavigationCommand.setScreenButtons(screenInstanceId, navigatorEventId, null, null, fab));
     }
 
-    public static void setScreenStyle(final String screenInstanceId, final Bundle styleParams) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+    /**
+     * The style is merged with the screen's current style when applied, on the main thread.
+     * Its fonts are loaded in the background beforehand.
+     */
+    public static void setScreenStyle(String screenInstanceId, Bundle styleParams) {
+        setScreenStyle(screenInstanceId, new BundleReader(styleParams));
+    }
+
+    public static void setScreenStyle(final String screenInstanceId, final ParamsReader style) {
+        pipeline.submit("setScreenStyle", new Callable<NavigationCommand>() {
             @Override
-            public void run() {
-                currentActivity.setScreenStyle(screenInstanceId, styleParams);
+            public NavigationCommand call() {
+                return NavigationCommand.setScreenStyle(screenInstanceId, style);
             }
         });
     }
 
     public static void dismissTopModal(final Promise promise) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
+        pipeline.submit(new NavigationCommand("dismissTopModal") {
+            @Override
+            void reject(String code, String message) {
+                promise.reject(code, message);
+            }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
             @Override
-            public void run() {
-                currentActivity.dismissTopModal(promise);
+            void execute(NavigationActivity activity) {
+                activity.dismissTopModal(promise);
             }
         });
     }
 
     public static void dismissAllModals() {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
-
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        pipeline.submit(new NavigationCommand("dismissAllModals") {
             @Override
-            public void run() {
-                currentActivity.dismissAllModals();
+            void execute(NavigationActivity activity) {
+                activity.dismissAllModals();
             }
         });
     }
 
     public static void toggleSideMenuVisible(final boolean animated, final Side side) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
-
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        pipeline.submit(new NavigationCommand("toggleSideMenuVisible") {
             @Override
-            public void run() {
-                currentActivity.toggleSideMenuVisible(animated, side);
+            void execute(NavigationActivity activity) {
+                activity.toggleSideMenuVisible(animated, side);
             }
         });
     }
 
 	public static void disableOpenGesture(final boolean disableOpenGesture) {
-		final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-		if (currentActivity == null) {
-			return;
-		}
-
-		NavigationApplication.instance.runOnMainThread(new Runnable()
+		pipeline.submit(new NavigationCommand("disableOpenGesture")
 		{
 			@Override
-			public void run()
+			void execute(NavigationActivity activity)
 			{
-				currentActivity.disableOpenGesture(disableOpenGesture);
+				activity.disableOpenGesture(disableOpenGesture);
 			}
 		});
 	}
 
     public static void setSideMenuVisible(final boolean animated, final boolean visible, final Side side) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
-
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        pipeline.submit(new NavigationCommand("setSideMenuVisible") {
             @Override
-            public void run() {
-                currentActivity.setSideMenuVisible(animated, visible, side);
+            void execute(NavigationActivity activity) {
+                activity.setSideMenuVisible(animated, visible, side);
             }
         });
     }
 
 	public static void disableBackNavigation(final boolean disableBackNavigation) {
-		final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-		if (currentActivity == null) {
-			return;
-		}
-
-		NavigationApplication.instance.runOnMainThread(new Runnable()
+		pipeline.submit(new NavigationCommand("disableBackNavigation")
 		{
 			@Override
-			public void run()
+			void execute(NavigationActivity activity)
 			{
-				currentActivity.disableBackNavigation(disableBackNavigation);
+				activity.disableBackNavigation(disableBackNavigation);
 			}
 		});
 	}
 
 
     public static void selectTopTabByTabIndex(final String screenInstanceId, final int index) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
-
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        pipeline.submit(new NavigationCommand("selectTopTabByTabIndex") {
             @Override
-            public void run() {
-                currentActivity.selectTopTabByTabIndex(screenInstanceId, index);
+            void execute(NavigationActivity activity) {
+                activity.selectTopTabByTabIndex(screenInstanceId, index);
             }
         });
     }
 
     public static void selectTopTabByScreen(final String screenInstanceId) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        pipeline.submit(new NavigationCommand("selectTopTabByScreen") {
             @Override
-            public void run() {
-                currentActivity.selectTopTabByScreen(screenInstanceId);
+            void execute(NavigationActivity activity) {
+                activity.selectTopTabByScreen(screenInstanceId);
             }
         });
     }
 
     public static void selectBottomTabByTabIndex(final Integer index) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
-
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        pipeline.submit(new NavigationCommand("selectBottomTabByTabIndex") {
             @Override
-            public void run() {
-                currentActivity.selectBottomTabByTabIndex(index);
+            void execute(NavigationActivity activity) {
+                activity.selectBottomTabByTabIndex(index);
             }
         });
     }
 
     public static void selectBottomTabByNavigatorId(final String navigatorId) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
-
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        pipeline.submit(new NavigationCommand("selectBottomTabByNavigatorId") {
             @Override
-            public void run() {
-                currentActivity.selectBottomTabByNavigatorId(navigatorId);
+            void execute(NavigationActivity activity) {
+                activity.selectBottomTabByNavigatorId(navigatorId);
             }
         });
     }
 
-    public static void setBottomTabButtonByIndex(final Integer index, final Bundle screenParams) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
+    public static void setBottomTabButtonByIndex(Integer index, Bundle screenParams) {
+        setBottomTabButtonByIndex(index, new BundleReader(screenParams));
+    }
 
-        final ScreenParams params = ScreenParamsParser.parse(screenParams);
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+    public static void setBottomTabButtonByIndex(final Integer index, final ParamsReader screenParams) {
+        pipeline.submit("setBottomTabButtonByIndex", new Callable<NavigationCommand>() {
             @Override
-            public void run() {
-                currentActivity.setBottomTabButtonByIndex(index, params);
+            public NavigationCommand call() {
+                final ScreenParams params = ScreenParamsParser.parse(screenParams);
+                return new NavigationCommand("setBottomTabButtonByIndex") {
+                    @Override
+                    void execute(NavigationActivity activity) {
+                        activity.setBottomTabButtonByIndex(index, params);
+                    }
+                };
             }
         });
     }
 
-    public static void setBottomTabButtonByNavigatorId(final String navigatorId, final Bundle screenParams) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
+    public static void setBottomTabButtonByNavigatorId(String navigatorId, Bundle screenParams) {
+        setBottomTabButtonByNavigatorId(navigatorId, new BundleReader(screenParams));
+    }
 
-        final ScreenParams params = ScreenParamsParser.parse(screenParams);
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+    public static void setBottomTabButtonByNavigatorId(final String navigatorId, final ParamsReader screenParams) {
+        pipeline.submit("setBottomTabButtonByNavigatorId", new Callable<NavigationCommand>() {
             @Override
-            public void run() {
-                currentActivity.setBottomTabButtonByNavigatorId(navigatorId, params);
+            public NavigationCommand call() {
+                final ScreenParams params = ScreenParamsParser.parse(screenParams);
+                return new NavigationCommand("setBottomTabButtonByNavigatorId") {
+                    @Override
+                    void execute(NavigationActivity activity) {
+                        activity.setBottomTabButtonByNavigatorId(navigatorId, params);
+                    }
+                };
             }
         });
     }
 
-    public static void showSlidingOverlay(final SlidingOverlayParams params) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
-
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+    public static void showSlidingOverlay(final ParamsReader params) {
+        pipeline.submit("showSlidingOverlay", new Callable<NavigationCommand>() {
             @Override
-            public void run() {
-                currentActivity.showSlidingOverlay(params);
+            public NavigationCommand call() {
+                return showSlidingOverlayCommand(new SlidingOverlayParamsParser().parse(params.toBundle()));
             }
         });
     }
 
+    public static void showSlidingOverlay(SlidingOverlayParams params) {
+        pipeline.submit(showSlidingOverlayCommand(params));
+    }
+
+    private static NavigationCommand showSlidingOverlayCommand(final SlidingOverlayParams params) {
+        return new NavigationCommand("showSlidingOverlay") {
+            @Override
+            void execute(NavigationActivity activity) {
+                activity.showSlidingOverlay(params);
+            }
+        };
+    }
+
     public static void hideSlidingOverlay() {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
+        pipeline.submit(new NavigationCommand("hideSlidingOverlay") {
+            @Override
+            void execute(NavigationActivity activity) {
+                activity.hideSlidingOverlay();
+            }
+        });
+    }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+    public static void showSnackbar(final ParamsReader params) {
+        pipeline.submit("showSnackbar", new Callable<NavigationCommand>() {
             @Override
-            public void run() {
-                currentActivity.hideSlidingOverlay();
+            public NavigationCommand call() {
+                return showSnackbarCommand(new SnackbarParamsParser().parse(params.toBundle()));
             }
         });
     }
 
-    public static void showSnackbar(final SnackbarParams params) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
+    public static void showSnackbar(SnackbarParams params) {
+        pipeline.submit(showSnackbarCommand(params));
+    }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+    private static NavigationCommand showSnackbarCommand(final SnackbarParams params) {
+        return new NavigationCommand("showSnackbar") {
             @Override
-            public void run() {
-                currentActivity.showSnackbar(params);
+            void execute(NavigationActivity activity) {
+                activity.showSnackbar(params);
             }
-        });
+        };
     }
 
     public static void dismissSnackbar() {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            return;
-        }
+        pipeline.submit(new NavigationCommand("dismissSnackbar") {
+            @Override
+            void execute(NavigationActivity activity) {
+                activity.dismissSnackbar();
+            }
+        });
+    }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+    /**
+     * Applies all commands in a single main thread post, in the order they were given. Like single commands, the batch
+     * is deferred while no activity is resumed. The promise is resolved with one result per command:
+     * {command, success, error}
+     */
+    public static void executeBatch(final Callable<List<NavigationCommand>> parser, final Promise promise) {
+        pipeline.submit("executeBatch", promise, new Callable<NavigationCommand>() {
             @Override
-            public void run() {
-                currentActivity.dismissSnackbar();
+            public NavigationCommand call() throws Exception {
+                return batch(parser.call(), promise);
             }
         });
     }
 
+    public static void executeBatch(final List<NavigationCommand> commands, final Promise promise) {
+        pipeline.submit(batch(commands, promise));
+    }
+
+    private static NavigationCommand batch(final List<NavigationCommand> commands, final Promise promise) {
+        return new NavigationCommand("executeBatch") {
+            @Override
+            void reject(String code, String message) {
+                promise.reject(code, message);
+            }
+
+            @Override
+            void execute(NavigationActivity activity) {
+                WritableArray results = Arguments.createArray();
+                for (NavigationCommand command : commands) {
+                    results.pushMap(NavigationCommandsHandler.execute(activity, command));
+                }
+                promise.resolve(results);
+            }
+        };
+    }
+
+    private static WritableMap execute(NavigationActivity activity, NavigationCommand command) {
+        WritableMap result = Arguments.createMap();
+        result.putString("command", command.getName());
+        RuntimeException error = command.getError();
+        if (error == null) {
+            try {
+                command.execute(activity);
+            } catch (RuntimeException e) {
+                error = e;
+            }
+        }
+        result.putBoolean("success", error == null);
+        if (error != null) {
+            result.putString("error", error.getMessage() == null ? error.toString() : error.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * Resolves with the recorded traces, oldest first: {command, screenId, screenInstanceId, timestamp, phases}.
+     * Phases are in milliseconds since the command was received, or since Application.onCreate for the "coldStart"
+     * trace.
+     */
+    public static void getNavigationMetrics(Promise promise) {
+        WritableArray result = Arguments.createArray();
+        for (NavigationMetrics.Trace trace : NavigationMetrics.instance.getTraces()) {
+            WritableMap map = Arguments.createMap();
+            map.putString("command", trace.getCommand());
+            map.putString("screenId", trace.getScreenId());
+            map.putString("screenInstanceId", trace.getScreenInstanceId());
+            map.putDouble("timestamp", trace.getTimestamp());
+            WritableMap phases = Arguments.createMap();
+            for (NavigationMetrics.Phase phase : NavigationMetrics.Phase.values()) {
+                if (trace.hasPhase(phase)) {
+                    phases.putDouble(phase.name, trace.getPhaseTime(phase));
+                }
+            }
+            map.putMap("phases", phases);
+            result.pushMap(map);
+        }
+        promise.resolve(result);
+    }
+
     public static void getOrientation(Promise promise) {
         final NavigationActivity currentActivity = NavigationActivity.currentActivity;
         if (currentActivity == null) {
@@ -521,16 +679,20 @@ public class NavigationCommandsHandler {
     }
 
     public static void getCurrentlyVisibleScreenId(final Promise promise) {
-        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
-        if (currentActivity == null) {
-            promise.resolve("");
-            return;
-        }
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        pipeline.submit(new NavigationCommand("getCurrentlyVisibleScreenId") {
+            @Override
+            boolean requiresActivity() {
+                return false;
+            }
+
             @Override
-            public void run() {
+            void execute(NavigationActivity activity) {
+                if (activity == null) {
+                    promise.resolve("");
+                    return;
+                }
                 WritableMap map = Arguments.createMap();
-                map.putString("screenId", currentActivity.getCurrentlyVisibleScreenId());
+                map.putString("screenId", activity.getCurrentlyVisibleScreenId());
                 promise.resolve(map);
             }
         });
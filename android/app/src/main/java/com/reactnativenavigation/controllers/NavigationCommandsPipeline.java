@@ -0,0 +1,200 @@
+package com.reactnativenavigation.controllers;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.Log;
+import android.view.Choreographer;
+
+import com.facebook.react.bridge.Promise;
+import com.reactnativenavigation.NavigationApplication;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parses navigation commands, including their icons and fonts, on a single background thread and applies them on
+ * the main thread, through the {@link NavigationCommandsScheduler}, in the order they were submitted.
+ * The activity is resolved when a command is applied.
+ * <p>
+ * Per screen updates, such as title, buttons and style, are held until the next frame and coalesced by
+ * {@link NavigationCommand#getCoalescingKey()} so that the TitleBar is laid out once per frame.
+ * Pending updates are always applied before the next command which isn't coalesced.
+ * <p>
+ * Commands applied while no NavigationActivity is resumed are deferred, up to {@link #MAX_DEFERRED_COMMANDS},
+ * and replayed in order once an activity resumes. Deferred commands which are dropped are rejected through
+ * {@link NavigationCommand#reject(String, String)}.
+ */
+class NavigationCommandsPipeline {
+    private static final String TAG = "NavigationCommands";
+    static final int MAX_DEFERRED_COMMANDS = 64;
+    static final String TOO_MANY_DEFERRED_COMMANDS = "TooManyDeferredCommands";
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(@NonNull Runnable runnable) {
+            return new Thread(runnable, "NavigationCommandsPipeline");
+        }
+    });
+    private final AtomicInteger parsing = new AtomicInteger();
+    private final NavigationCommandsScheduler scheduler;
+    private final Map<String, NavigationCommand> pendingUpdates = new LinkedHashMap<>();
+    private final List<NavigationCommand> deferredCommands = new ArrayList<>();
+    private final Choreographer.FrameCallback applyPendingUpdates = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            applyPendingUpdates();
+        }
+    };
+
+    NavigationCommandsPipeline() {
+        this(NavigationCommandsScheduler.create(NavigationApplication.instance.getNavigationCommandsSchedulingMode()));
+    }
+
+    NavigationCommandsPipeline(NavigationCommandsScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Commands which need no parsing are posted directly unless an earlier command is still being parsed
+     */
+    void submit(final NavigationCommand command) {
+        if (parsing.get() == 0) {
+            post(command);
+        } else {
+            submit(command.getName(), new Callable<NavigationCommand>() {
+                @Override
+                public NavigationCommand call() {
+                    return command;
+                }
+            });
+        }
+    }
+
+    void submit(String name, Callable<NavigationCommand> parser) {
+        submit(name, null, parser);
+    }
+
+    /**
+     * @param name the name of the command being parsed, reported if parsing fails
+     * @param promise the command's promise, rejected if parsing fails
+     */
+    void submit(final String name, @Nullable final Promise promise, final Callable<NavigationCommand> parser) {
+        parsing.incrementAndGet();
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                post(parse(name, promise, parser));
+                parsing.decrementAndGet();
+            }
+        });
+    }
+
+    private NavigationCommand parse(String name, @Nullable Promise promise, Callable<NavigationCommand> parser) {
+        try {
+            return parser.call();
+        } catch (RuntimeException e) {
+            return NavigationCommand.failed(name, e, promise);
+        } catch (Exception e) {
+            return NavigationCommand.failed(name, new RuntimeException(e), promise);
+        }
+    }
+
+    private void post(final NavigationCommand command) {
+        scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                apply(command);
+            }
+        }, command.createsScreens());
+    }
+
+    private void apply(NavigationCommand command) {
+        String key = command.getCoalescingKey();
+        if (key == null) {
+            applyPendingUpdates();
+            execute(command);
+        } else {
+            holdUntilNextFrame(key, command);
+        }
+    }
+
+    private void holdUntilNextFrame(String key, NavigationCommand command) {
+        if (pendingUpdates.isEmpty()) {
+            Choreographer.getInstance().postFrameCallback(applyPendingUpdates);
+        }
+        NavigationCommand pending = pendingUpdates.get(key);
+        pendingUpdates.put(key, pending == null ? command : pending.coalesce(command));
+    }
+
+    private void applyPendingUpdates() {
+        if (pendingUpdates.isEmpty()) {
+            return;
+        }
+        Choreographer.getInstance().removeFrameCallback(applyPendingUpdates);
+        List<NavigationCommand> updates = new ArrayList<>(pendingUpdates.values());
+        pendingUpdates.clear();
+        for (NavigationCommand update : updates) {
+            execute(update);
+        }
+    }
+
+    private void execute(NavigationCommand command) {
+        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
+        if (currentActivity == null && command.requiresActivity()) {
+            defer(command);
+            return;
+        }
+        command.execute(currentActivity);
+    }
+
+    /**
+     * A deferred command is coalesced with an earlier deferred command of the same key,
+     * as long as only coalescable commands were deferred after it.
+     */
+    private void defer(NavigationCommand command) {
+        String key = command.getCoalescingKey();
+        for (int i = deferredCommands.size() - 1; key != null && i >= 0; i--) {
+            NavigationCommand deferred = deferredCommands.get(i);
+            if (deferred.getCoalescingKey() == null) {
+                break;
+            }
+            if (key.equals(deferred.getCoalescingKey())) {
+                deferredCommands.set(i, deferred.coalesce(command));
+                return;
+            }
+        }
+        if (deferredCommands.size() == MAX_DEFERRED_COMMANDS) {
+            NavigationCommand dropped = deferredCommands.remove(0);
+            Log.w(TAG, "Too many commands issued while no activity is resumed, dropping " + dropped.getName());
+            dropped.reject(TOO_MANY_DEFERRED_COMMANDS, "More than " + MAX_DEFERRED_COMMANDS +
+                    " commands were issued while no activity was resumed, " + dropped.getName() + " was dropped");
+        }
+        deferredCommands.add(command);
+    }
+
+    void applyDeferredCommands() {
+        List<NavigationCommand> commands = new ArrayList<>(deferredCommands);
+        deferredCommands.clear();
+        for (NavigationCommand command : commands) {
+            apply(command);
+        }
+    }
+
+    /**
+     * Drops the deferred commands, rejecting them with the given code and message
+     */
+    void clearDeferredCommands(String code, String message) {
+        List<NavigationCommand> commands = new ArrayList<>(deferredCommands);
+        deferredCommands.clear();
+        for (NavigationCommand command : commands) {
+            command.reject(code, message);
+        }
+    }
+}
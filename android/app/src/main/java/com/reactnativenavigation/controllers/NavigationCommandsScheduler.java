@@ -0,0 +1,122 @@
+package com.reactnativenavigation.controllers;
+
+import android.view.Choreographer;
+
+import com.reactnativenavigation.NavigationApplication;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * Decides when parsed navigation commands run on the main thread.
+ *
+ * @see NavigationApplication#getNavigationCommandsSchedulingMode()
+ */
+public abstract class NavigationCommandsScheduler {
+
+    public enum Mode {
+        /**
+         * Commands are posted to the main thread as soon as they're parsed
+         */
+        Immediate,
+        /**
+         * Commands are applied at the start of the next frame. At most one command which creates screens runs per frame,
+         * the commands after it wait for the following frame.
+         */
+        FrameAligned
+    }
+
+    static NavigationCommandsScheduler create(Mode mode) {
+        return mode == Mode.FrameAligned ? new FrameAligned(FrameAligned.choreographer) : new Immediate();
+    }
+
+    /**
+     * @param heavy true if the task creates screens
+     */
+    abstract void schedule(Runnable task, boolean heavy);
+
+    static class Immediate extends NavigationCommandsScheduler {
+        @Override
+        void schedule(Runnable task, boolean heavy) {
+            NavigationApplication.instance.runOnMainThread(task);
+        }
+    }
+
+    static class FrameAligned extends NavigationCommandsScheduler implements Choreographer.FrameCallback {
+        interface Frames {
+            /**
+             * Calls the callback on the main thread at the start of the next frame
+             */
+            void request(Choreographer.FrameCallback callback);
+        }
+
+        static final Frames choreographer = new Frames() {
+            @Override
+            public void request(final Choreographer.FrameCallback callback) {
+                NavigationApplication.instance.runOnMainThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        Choreographer.getInstance().postFrameCallback(callback);
+                    }
+                });
+            }
+        };
+
+        private final Frames frames;
+        private final Queue<Task> tasks = new ArrayDeque<>();
+        private boolean frameRequested;
+
+        FrameAligned(Frames frames) {
+            this.frames = frames;
+        }
+
+        @Override
+        void schedule(Runnable task, boolean heavy) {
+            synchronized (tasks) {
+                tasks.add(new Task(task, heavy));
+                requestFrame();
+            }
+        }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            synchronized (tasks) {
+                frameRequested = false;
+            }
+            boolean ranHeavyTask = false;
+            while (true) {
+                Task task;
+                synchronized (tasks) {
+                    task = tasks.peek();
+                    if (task == null) {
+                        return;
+                    }
+                    if (task.heavy && ranHeavyTask) {
+                        requestFrame();
+                        return;
+                    }
+                    tasks.remove();
+                }
+                task.runnable.run();
+                ranHeavyTask |= task.heavy;
+            }
+        }
+
+        private void requestFrame() {
+            if (!frameRequested) {
+                frameRequested = true;
+                frames.request(this);
+            }
+        }
+
+        private static class Task {
+            final Runnable runnable;
+            final boolean heavy;
+
+            Task(Runnable runnable, boolean heavy) {
+                this.runnable = runnable;
+                this.heavy = heavy;
+            }
+        }
+    }
+}
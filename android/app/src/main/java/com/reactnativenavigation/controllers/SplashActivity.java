@@ -1,6 +1,7 @@
 package com.reactnativenavigation.controllers;
 
 import android.graphics.Color;
+import android.os.Build;
 import android.os.Bundle;
 import android.support.annotation.LayoutRes;
 import android.support.annotation.Nullable;
@@ -8,7 +9,10 @@ import android.support.v7.app.AppCompatActivity;
 import android.view.View;
 
 import com.reactnativenavigation.NavigationApplication;
+import com.reactnativenavigation.params.ActivityParams;
+import com.reactnativenavigation.params.StyleParams;
 import com.reactnativenavigation.react.ReactDevPermission;
+import com.reactnativenavigation.views.LaunchLayoutPlaceholder;
 
 public abstract class SplashActivity extends AppCompatActivity {
 
@@ -24,6 +28,11 @@ public abstract class SplashActivity extends AppCompatActivity {
         super.onResume();
 
         if (NavigationApplication.instance.getReactGateway().hasStartedCreatingContext()) {
+            if (NavigationApplication.instance.startReactContextOnAppCreate() &&
+                !NavigationCommandsHandler.hasStartedApp()) {
+                // Started in Application.onCreate, startApp replaces the splash once JS has called it
+                return;
+            }
             finish();
             return;
         }
@@ -43,6 +52,9 @@ public abstract class SplashActivity extends AppCompatActivity {
     }
 
     private void setSplashLayout() {
+        if (setLaunchLayoutPlaceholder()) {
+            return;
+        }
         final int splashLayout = getSplashLayout();
         if (splashLayout > 0) {
             setContentView(splashLayout);
@@ -51,6 +63,30 @@ public abstract class SplashActivity extends AppCompatActivity {
         }
     }
 
+    /**
+     * Shows the chrome of the last launch's layout instead of the splash layout, if it's cached and already loaded
+     */
+    private boolean setLaunchLayoutPlaceholder() {
+        if (!NavigationApplication.instance.cacheLaunchLayout()) {
+            return false;
+        }
+        ActivityParams cachedLayout = LaunchLayoutCache.instance.getCachedLayout();
+        if (cachedLayout == null) {
+            return false;
+        }
+        LaunchLayoutPlaceholder placeholder = new LaunchLayoutPlaceholder(this, cachedLayout);
+        setStatusBarColor(placeholder.getStyleParams().statusBarColor);
+        setContentView(placeholder);
+        LaunchLayoutCache.instance.setPlaceholderShown(true);
+        return true;
+    }
+
+    private void setStatusBarColor(StyleParams.Color statusBarColor) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP && statusBarColor.hasColor()) {
+            getWindow().setStatusBarColor(statusBarColor.getColor());
+        }
+    }
+
     /**
      * @return xml layout res id
      */
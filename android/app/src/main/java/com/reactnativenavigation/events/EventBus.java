@@ -1,49 +1,232 @@
 package com.reactnativenavigation.events;
 
+import android.os.Handler;
+import android.os.Looper;
+
 import java.lang.ref.WeakReference;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.ListIterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Delivers events to the subscribers registered for their type, in registration order, and then to the subscribers
+ * registered for all events, in registration order.
+ * <p>
+ * Subscribers are kept in a copy-on-write array per event type which is swapped atomically, so registering,
+ * unregistering and posting are safe from any thread without locking, and posting never allocates. Subscribers are
+ * held weakly, and references to collected subscribers are pruned the next time their type is posted or changed.
+ * <p>
+ * {@link #post(Event)} delivers on the calling thread. {@link #postOnMain(Event)} and {@link #postSticky(Event)}
+ * deliver on the main thread, in the order the events were posted.
+ */
 public enum EventBus {
     instance;
 
-    private final List<WeakReference<Subscriber>> subscribers = new ArrayList<>();
+    private static final String ALL_TYPES = "*";
+    private static final Subscription[] NO_SUBSCRIPTIONS = new Subscription[0];
+
+    private final ConcurrentMap<String, AtomicReference<Subscription[]>> subscriptionsByType = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Event> stickyEvents = new ConcurrentHashMap<>();
+    private final Queue<Event> mainThreadEvents = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean mainThreadDeliveryScheduled = new AtomicBoolean();
+    private final Handler mainThreadHandler = new Handler(Looper.getMainLooper());
+    private final Runnable deliverMainThreadEvents = new Runnable() {
+        @Override
+        public void run() {
+            deliverMainThreadEvents();
+        }
+    };
+    private boolean deliveringMainThreadEvents;
 
-    public void register(Subscriber subscriber) {
-        if (isSubscribed(subscriber)) return;
-        subscribers.add(new WeakReference<>(subscriber));
+    /**
+     * @param types the event types to deliver to the subscriber, all events if none are given.
+     *              Registering again adds the given types. The last sticky event of each type is delivered to the
+     *              subscriber on the main thread.
+     */
+    public void register(Subscriber subscriber, String... types) {
+        if (types.length == 0) {
+            subscribe(ALL_TYPES, subscriber);
+            for (Event sticky : stickyEvents.values()) {
+                deliverStickyEvent(subscriber, sticky);
+            }
+        }
+        for (String type : types) {
+            if (subscribe(type, subscriber)) {
+                Event sticky = stickyEvents.get(type);
+                if (sticky != null) {
+                    deliverStickyEvent(subscriber, sticky);
+                }
+            }
+        }
     }
 
-    public void unregister(Subscriber subscriber) {
-        ListIterator<WeakReference<Subscriber>> iterator = subscribers.listIterator();
-        while (iterator.hasNext()) {
-            WeakReference<Subscriber> ref = iterator.next();
-            Subscriber registered = ref.get();
-            if (registered != null && registered == subscriber) {
-                iterator.remove();
+    private boolean subscribe(String type, Subscriber subscriber) {
+        AtomicReference<Subscription[]> holder = getHolder(type);
+        while (true) {
+            Subscription[] subscriptions = holder.get();
+            if (indexOf(subscriptions, subscriber) >= 0) {
+                return false;
+            }
+            Subscription[] result = new Subscription[subscriptions.length + 1];
+            System.arraycopy(subscriptions, 0, result, 0, subscriptions.length);
+            result[subscriptions.length] = new Subscription(subscriber);
+            if (holder.compareAndSet(subscriptions, result)) {
+                return true;
             }
         }
     }
 
+    public void unregister(Subscriber subscriber) {
+        for (AtomicReference<Subscription[]> holder : subscriptionsByType.values()) {
+            prune(holder, subscriber);
+        }
+    }
+
     public void post(Event event) {
-        ListIterator<WeakReference<Subscriber>> iterator = subscribers.listIterator();
-        while (iterator.hasNext()) {
-            WeakReference<Subscriber> ref = iterator.next();
-            Subscriber registered = ref.get();
-            if (registered != null) {
-                registered.onEvent(event);
+        deliver(event.getType(), event);
+        deliver(ALL_TYPES, event);
+    }
+
+    /**
+     * Delivers the event on the main thread, after all events previously posted to the main thread.
+     * When called on the main thread the queued events are delivered before returning, unless this is called by a
+     * subscriber while they're being delivered.
+     */
+    public void postOnMain(Event event) {
+        mainThreadEvents.add(event);
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            deliverMainThreadEvents();
+        } else if (mainThreadDeliveryScheduled.compareAndSet(false, true)) {
+            mainThreadHandler.post(deliverMainThreadEvents);
+        }
+    }
+
+    /**
+     * Like {@link #postOnMain(Event)}, and also keeps the event so subscribers which register for its type later
+     * receive it.
+     */
+    public void postSticky(Event event) {
+        stickyEvents.put(event.getType(), event);
+        postOnMain(event);
+    }
+
+    public void removeStickyEvent(String type) {
+        stickyEvents.remove(type);
+    }
+
+    private void deliverMainThreadEvents() {
+        mainThreadDeliveryScheduled.set(false);
+        if (deliveringMainThreadEvents) {
+            return;
+        }
+        deliveringMainThreadEvents = true;
+        try {
+            Event event;
+            while ((event = mainThreadEvents.poll()) != null) {
+                post(event);
+            }
+        } finally {
+            deliveringMainThreadEvents = false;
+        }
+    }
+
+    private void deliverStickyEvent(final Subscriber subscriber, final Event event) {
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            subscriber.onEvent(event);
+        } else {
+            final WeakReference<Subscriber> ref = new WeakReference<>(subscriber);
+            mainThreadHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    Subscriber registered = ref.get();
+                    if (registered != null && isSubscribed(registered)) {
+                        registered.onEvent(event);
+                    }
+                }
+            });
+        }
+    }
+
+    private void deliver(String type, Event event) {
+        AtomicReference<Subscription[]> holder = subscriptionsByType.get(type);
+        if (holder == null) {
+            return;
+        }
+        boolean hasCollectedSubscribers = false;
+        for (Subscription subscription : holder.get()) {
+            Subscriber subscriber = subscription.get();
+            if (subscriber == null) {
+                hasCollectedSubscribers = true;
+            } else {
+                subscriber.onEvent(event);
             }
         }
+        if (hasCollectedSubscribers) {
+            prune(holder, null);
+        }
     }
 
     public boolean isSubscribed(Subscriber subscriber) {
-        for (WeakReference<Subscriber> ref : subscribers) {
-            Subscriber registered = ref.get();
-            if (registered != null && registered.equals(subscriber)) {
+        for (AtomicReference<Subscription[]> holder : subscriptionsByType.values()) {
+            if (indexOf(holder.get(), subscriber) >= 0) {
                 return true;
             }
         }
         return false;
     }
+
+    /**
+     * Removes the subscriber, if given, and all collected subscribers from the type's subscriptions
+     */
+    private void prune(AtomicReference<Subscription[]> holder, Subscriber removed) {
+        while (true) {
+            Subscription[] subscriptions = holder.get();
+            int remaining = 0;
+            Subscription[] result = new Subscription[subscriptions.length];
+            for (Subscription subscription : subscriptions) {
+                Subscriber subscriber = subscription.get();
+                if (subscriber != null && subscriber != removed) {
+                    result[remaining++] = subscription;
+                }
+            }
+            if (remaining == subscriptions.length) {
+                return;
+            }
+            Subscription[] trimmed = remaining == 0 ? NO_SUBSCRIPTIONS : new Subscription[remaining];
+            System.arraycopy(result, 0, trimmed, 0, remaining);
+            if (holder.compareAndSet(subscriptions, trimmed)) {
+                return;
+            }
+        }
+    }
+
+    private AtomicReference<Subscription[]> getHolder(String type) {
+        AtomicReference<Subscription[]> holder = subscriptionsByType.get(type);
+        if (holder == null) {
+            AtomicReference<Subscription[]> created = new AtomicReference<>(NO_SUBSCRIPTIONS);
+            holder = subscriptionsByType.putIfAbsent(type, created);
+            if (holder == null) {
+                holder = created;
+            }
+        }
+        return holder;
+    }
+
+    private static int indexOf(Subscription[] subscriptions, Subscriber subscriber) {
+        for (int i = 0; i < subscriptions.length; i++) {
+            if (subscriptions[i].get() == subscriber) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static class Subscription extends WeakReference<Subscriber> {
+        Subscription(Subscriber subscriber) {
+            super(subscriber);
+        }
+    }
 }
@@ -0,0 +1,16 @@
+package com.reactnativenavigation.events;
+
+public class TrimMemoryEvent implements Event {
+    public static final String TYPE = "TrimMemoryEvent";
+
+    public final int level;
+
+    public TrimMemoryEvent(int level) {
+        this.level = level;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+}
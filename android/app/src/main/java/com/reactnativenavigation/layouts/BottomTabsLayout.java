@@ -1,10 +1,14 @@
 package com.reactnativenavigation.layouts;
 
 import android.os.Bundle;
+import android.os.Looper;
+import android.os.MessageQueue;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.v7.app.AppCompatActivity;
+import android.util.SparseArray;
 import android.view.View;
+import android.view.ViewTreeObserver;
 import android.widget.RelativeLayout;
 
 import com.aurelhubert.ahbottomnavigation.AHBottomNavigation;
@@ -34,6 +38,7 @@ import com.reactnativenavigation.views.SnackbarAndFabContainer;
 import com.reactnativenavigation.views.slidingOverlay.SlidingOverlay;
 import com.reactnativenavigation.views.slidingOverlay.SlidingOverlaysQueue;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static android.view.ViewGroup.LayoutParams.MATCH_PARENT;
@@ -53,6 +58,30 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
     private @Nullable SideMenu sideMenu;
     private int currentStackIndex = 0;
     private LightBox lightBox;
+    private final SparseArray<List<StackCommand>> heldStackCommands = new SparseArray<>();
+    private final MessageQueue.IdleHandler preloadNextTab = new MessageQueue.IdleHandler() {
+        @Override
+        public boolean queueIdle() {
+            if (screenStacks == null) {
+                return false;
+            }
+            for (int i = 0; i < screenStacks.length; i++) {
+                if (!isTabCreated(i)) {
+                    createTab(i);
+                    return true;
+                }
+            }
+            return false;
+        }
+    };
+
+    /**
+     * A command for a screen in every stack. Commands for the root screen of a tab which wasn't created yet are held
+     * until the tab is created.
+     */
+    private interface StackCommand {
+        void apply(ScreenStack stack);
+    }
 
     public BottomTabsLayout(AppCompatActivity activity, ActivityParams params) {
         super(activity);
@@ -71,6 +100,9 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
         addScreenStacks();
         createSnackbarContainer();
         showInitialScreenStack();
+        if (params.lazyTabs && params.preloadTabs) {
+            preloadTabsAfterFirstDraw();
+        }
     }
 
     private void createSideMenu() {
@@ -83,8 +115,12 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
     }
 
     private void addScreenStacks() {
+        int initialTab = getInitialTabIndex();
         for (int i = screenStacks.length - 1; i >= 0; i--) {
-            createAndAddScreens(i);
+            createScreenStack(i);
+            if (!params.lazyTabs || i == initialTab) {
+                createTab(i);
+            }
         }
 
 		ScreenParams screenParams = params.screenParams;
@@ -95,11 +131,65 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
 		extraScreenStack = newStack;
     }
 
-    private void createAndAddScreens(int position) {
+    private void createScreenStack(int position) {
+        ScreenParams screenParams = params.tabParams.get(position);
+        screenStacks[position] = new ScreenStack(getActivity(), getScreenStackParent(), screenParams.getNavigatorId(), this, this);
+    }
+
+    /**
+     * Pushes the tab's initial screen and applies the commands held for it. With lazyTabs this happens when the tab
+     * is first selected or preloaded, otherwise when the layout is created.
+     */
+    private void createTab(int position) {
+        if (isTabCreated(position)) {
+            return;
+        }
         ScreenParams screenParams = params.tabParams.get(position);
-        ScreenStack newStack = new ScreenStack(getActivity(), getScreenStackParent(), screenParams.getNavigatorId(), this, this);
-        newStack.pushInitialScreen(screenParams, createScreenLayoutParams(screenParams));
-        screenStacks[position] = newStack;
+        screenStacks[position].pushInitialScreen(screenParams, createScreenLayoutParams(screenParams));
+        List<StackCommand> heldCommands = heldStackCommands.get(position);
+        heldStackCommands.remove(position);
+        if (heldCommands != null) {
+            for (StackCommand command : heldCommands) {
+                command.apply(screenStacks[position]);
+            }
+        }
+    }
+
+    private boolean isTabCreated(int position) {
+        return !screenStacks[position].empty();
+    }
+
+    private void applyToScreenStacks(String screenInstanceId, StackCommand command) {
+        for (int i = 0; i < screenStacks.length; i++) {
+            if (isTabCreated(i)) {
+                command.apply(screenStacks[i]);
+            } else if (params.tabParams.get(i).getScreenInstanceId().equals(screenInstanceId)) {
+                holdUntilTabIsCreated(i, command);
+            }
+        }
+        if (extraScreenStack != null) {
+            command.apply(extraScreenStack);
+        }
+    }
+
+    private void holdUntilTabIsCreated(int position, StackCommand command) {
+        List<StackCommand> heldCommands = heldStackCommands.get(position);
+        if (heldCommands == null) {
+            heldCommands = new ArrayList<>();
+            heldStackCommands.put(position, heldCommands);
+        }
+        heldCommands.add(command);
+    }
+
+    private void preloadTabsAfterFirstDraw() {
+        getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+            @Override
+            public boolean onPreDraw() {
+                getViewTreeObserver().removeOnPreDrawListener(this);
+                Looper.myQueue().addIdleHandler(preloadNextTab);
+                return true;
+            }
+        });
     }
 
     public RelativeLayout getScreenStackParent() {
@@ -135,12 +225,12 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
         getScreenStackParent().addView(snackbarAndFabContainer, lp);
     }
 
-    private void showInitialScreenStack() {
-		int initialScreen = 0;
+    private int getInitialTabIndex() {
+        return selectedPath == null ? 0 : getTabIndexForScreenId(selectedPath);
+    }
 
-		if (this.selectedPath != null) {
-			initialScreen = getTabIndexForScreenId(this.selectedPath);
-		}
+    private void showInitialScreenStack() {
+		int initialScreen = getInitialTabIndex();
 
 		if (initialScreen > -1) {
 			showStackAndUpdateStyle(screenStacks[initialScreen]);
@@ -154,13 +244,11 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
 
 	private int getTabIndexForScreenId(String path)
 	{
-		int leni = screenStacks.length;
+		int leni = params.tabParams.size();
 
 		for (int i = 0; i < leni; ++i)
 		{
-			ScreenStack stack = screenStacks[i];
-
-			if (stack.rootScreenId().equals(path)) {
+			if (params.tabParams.get(i).screenId.equals(path)) {
 				return i;
 			}
 		}
@@ -190,10 +278,13 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
     }
 
     @Override
-    public void setTopBarVisible(String screenInstanceId, boolean hidden, boolean animated) {
-        for (int i = 0; i < bottomTabs.getItemsCount(); i++) {
-            screenStacks[i].setScreenTopBarVisible(screenInstanceId, hidden, animated);
-        }
+    public void setTopBarVisible(final String screenInstanceId, final boolean hidden, final boolean animated) {
+        applyToScreenStacks(screenInstanceId, new StackCommand() {
+            @Override
+            public void apply(ScreenStack stack) {
+                stack.setScreenTopBarVisible(screenInstanceId, hidden, animated);
+            }
+        });
     }
 
     public void setBottomTabsVisible(boolean hidden, boolean animated) {
@@ -201,63 +292,63 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
     }
 
     @Override
-    public void setTitleBarTitle(String screenInstanceId, String title) {
-        for (int i = 0; i < bottomTabs.getItemsCount(); i++) {
-            screenStacks[i].setScreenTitleBarTitle(screenInstanceId, title);
-        }
-		if (extraScreenStack != null) {
-			extraScreenStack.setScreenTitleBarTitle(screenInstanceId, title);
-		}
+    public void setTitleBarTitle(final String screenInstanceId, final String title) {
+        applyToScreenStacks(screenInstanceId, new StackCommand() {
+            @Override
+            public void apply(ScreenStack stack) {
+                stack.setScreenTitleBarTitle(screenInstanceId, title);
+            }
+        });
     }
 
     @Override
-    public void setTitleBarSubtitle(String screenInstanceId, String subtitle) {
-        for (int i = 0; i < bottomTabs.getItemsCount(); i++) {
-            screenStacks[i].setScreenTitleBarSubtitle(screenInstanceId, subtitle);
-        }
-        if (extraScreenStack != null) {
-			extraScreenStack.setScreenTitleBarSubtitle(screenInstanceId, subtitle);
-		}
+    public void setTitleBarSubtitle(final String screenInstanceId, final String subtitle) {
+        applyToScreenStacks(screenInstanceId, new StackCommand() {
+            @Override
+            public void apply(ScreenStack stack) {
+                stack.setScreenTitleBarSubtitle(screenInstanceId, subtitle);
+            }
+        });
     }
 
     @Override
-    public void setTitleBarRightButtons(String screenInstanceId, String navigatorEventId, List<TitleBarButtonParams> titleBarButtons) {
-        for (int i = 0; i < bottomTabs.getItemsCount(); i++) {
-            screenStacks[i].setScreenTitleBarRightButtons(screenInstanceId, navigatorEventId, titleBarButtons);
-        }
-        if (extraScreenStack != null) {
-			extraScreenStack.setScreenTitleBarRightButtons(screenInstanceId, navigatorEventId, titleBarButtons);
-		}
+    public void setTitleBarRightButtons(final String screenInstanceId, final String navigatorEventId, final List<TitleBarButtonParams> titleBarButtons) {
+        applyToScreenStacks(screenInstanceId, new StackCommand() {
+            @Override
+            public void apply(ScreenStack stack) {
+                stack.setScreenTitleBarRightButtons(screenInstanceId, navigatorEventId, titleBarButtons);
+            }
+        });
     }
 
     @Override
-    public void setTitleBarLeftButton(String screenInstanceId, String navigatorEventId, TitleBarLeftButtonParams titleBarLeftButtonParams) {
-        for (int i = 0; i < bottomTabs.getItemsCount(); i++) {
-            screenStacks[i].setScreenTitleBarLeftButton(screenInstanceId, navigatorEventId, titleBarLeftButtonParams);
-        }
-        if (extraScreenStack != null) {
-			extraScreenStack.setScreenTitleBarLeftButton(screenInstanceId, navigatorEventId, titleBarLeftButtonParams);
-		}
+    public void setTitleBarLeftButton(final String screenInstanceId, final String navigatorEventId, final TitleBarLeftButtonParams titleBarLeftButtonParams) {
+        applyToScreenStacks(screenInstanceId, new StackCommand() {
+            @Override
+            public void apply(ScreenStack stack) {
+                stack.setScreenTitleBarLeftButton(screenInstanceId, navigatorEventId, titleBarLeftButtonParams);
+            }
+        });
     }
 
     @Override
-    public void setFab(String screenInstanceId, String navigatorEventId, FabParams fabParams) {
-        for (int i = 0; i < bottomTabs.getItemsCount(); i++) {
-            screenStacks[i].setFab(screenInstanceId, fabParams);
-        }
-        if (extraScreenStack != null) {
-			extraScreenStack.setFab(screenInstanceId, fabParams);
-		}
+    public void setFab(final String screenInstanceId, String navigatorEventId, final FabParams fabParams) {
+        applyToScreenStacks(screenInstanceId, new StackCommand() {
+            @Override
+            public void apply(ScreenStack stack) {
+                stack.setFab(screenInstanceId, fabParams);
+            }
+        });
     }
 
     @Override
-    public void updateScreenStyle(String screenInstanceId, Bundle styleParams) {
-        for (int i = 0; i < bottomTabs.getItemsCount(); i++) {
-            screenStacks[i].updateScreenStyle(screenInstanceId, styleParams);
-        }
-        if (extraScreenStack != null) {
-			extraScreenStack.updateScreenStyle(screenInstanceId, styleParams);
-		}
+    public void updateScreenStyle(final String screenInstanceId, final Bundle styleParams) {
+        applyToScreenStacks(screenInstanceId, new StackCommand() {
+            @Override
+            public void apply(ScreenStack stack) {
+                stack.updateScreenStyle(screenInstanceId, styleParams);
+            }
+        });
     }
 
     @Override
@@ -266,23 +357,23 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
     }
 
     @Override
-    public void selectTopTabByTabIndex(String screenInstanceId, int index) {
-        for (int i = 0; i < bottomTabs.getItemsCount(); i++) {
-            screenStacks[i].selectTopTabByTabIndex(screenInstanceId, index);
-        }
-        if (extraScreenStack != null) {
-			extraScreenStack.selectTopTabByTabIndex(screenInstanceId, index);
-		}
+    public void selectTopTabByTabIndex(final String screenInstanceId, final int index) {
+        applyToScreenStacks(screenInstanceId, new StackCommand() {
+            @Override
+            public void apply(ScreenStack stack) {
+                stack.selectTopTabByTabIndex(screenInstanceId, index);
+            }
+        });
     }
 
     @Override
-    public void selectTopTabByScreen(String screenInstanceId) {
-        for (int i = 0; i < bottomTabs.getItemsCount(); i++) {
-            screenStacks[i].selectTopTabByScreen(screenInstanceId);
-        }
-        if (extraScreenStack != null) {
-			extraScreenStack.selectTopTabByScreen(screenInstanceId);
-		}
+    public void selectTopTabByScreen(final String screenInstanceId) {
+        applyToScreenStacks(screenInstanceId, new StackCommand() {
+            @Override
+            public void apply(ScreenStack stack) {
+                stack.selectTopTabByScreen(screenInstanceId);
+            }
+        });
     }
 
     @Override
@@ -383,7 +474,7 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
 
     @Override
     public void push(ScreenParams params) {
-        ScreenStack screenStack = getScreenStack(params.getNavigatorId());
+        ScreenStack screenStack = getCreatedScreenStack(params.getNavigatorId());
         screenStack.push(params, createScreenLayoutParams(params));
         if (isCurrentStack(screenStack)) {
             bottomTabs.setStyleFromScreen(params.styleParams);
@@ -415,7 +506,7 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
 
     @Override
     public void newStack(final ScreenParams params) {
-        ScreenStack screenStack = getScreenStack(params.getNavigatorId());
+        ScreenStack screenStack = getCreatedScreenStack(params.getNavigatorId());
         screenStack.newStack(params, createScreenLayoutParams(params));
         if (isCurrentStack(screenStack)) {
             bottomTabs.setStyleFromScreen(params.styleParams);
@@ -424,6 +515,8 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
     }
 
     public void destroyStacks() {
+		Looper.myQueue().removeIdleHandler(preloadNextTab);
+		heldStackCommands.clear();
 		if (screenStacks != null) {
 			for (ScreenStack screenStack : screenStacks) {
 				screenStack.destroy();
@@ -470,11 +563,13 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
 
     private void sendTabSelectedEventToJs(int selectedTabIndex, int unselectedTabIndex) {
         String navigatorEventId = getCurrentScreenStack().peek().getNavigatorEventId();
-        WritableMap data = createTabSelectedEventData(selectedTabIndex, unselectedTabIndex);
-        NavigationApplication.instance.getEventEmitter().sendNavigatorEvent("bottomTabSelected", navigatorEventId, data);
+        if (NavigationApplication.instance.getEventEmitter().hasListener(navigatorEventId, "bottomTabSelected")) {
+            WritableMap navigatorData = createTabSelectedEventData(selectedTabIndex, unselectedTabIndex);
+            NavigationApplication.instance.getEventEmitter().sendNavigatorEvent("bottomTabSelected", navigatorEventId, navigatorData);
+        }
 
-        data = createTabSelectedEventData(selectedTabIndex, unselectedTabIndex);
-        NavigationApplication.instance.getEventEmitter().sendNavigatorEvent("bottomTabSelected", data);
+        WritableMap globalData = createTabSelectedEventData(selectedTabIndex, unselectedTabIndex);
+        NavigationApplication.instance.getEventEmitter().sendNavigatorEvent("bottomTabSelected", globalData);
     }
 
     private WritableMap createTabSelectedEventData(int selectedTabIndex, int unselectedTabIndex) {
@@ -485,13 +580,17 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
     }
 
     private void sendTabReselectedEventToJs() {
-        WritableMap data = Arguments.createMap();
         String navigatorEventId = getCurrentScreenStack().peek().getNavigatorEventId();
+        if (!NavigationApplication.instance.getEventEmitter().hasListener(navigatorEventId, "bottomTabReselected")) {
+            return;
+        }
+        WritableMap data = Arguments.createMap();
         NavigationApplication.instance.getEventEmitter().sendNavigatorEvent("bottomTabReselected", navigatorEventId, data);
     }
 
     private void showNewStack(int position) {
 		if (position > -1) {
+			createTab(position);
 			showStackAndUpdateStyle(screenStacks[position]);
 			currentStackIndex = position;
 		} else {
@@ -514,9 +613,13 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
         return currentStackIndex > -1 ? screenStacks[currentStackIndex] : extraScreenStack;
     }
 
-    private @NonNull ScreenStack getScreenStack(String navigatorId) {
+    private @NonNull ScreenStack getCreatedScreenStack(String navigatorId) {
         int index = getScreenStackIndex(navigatorId);
-        return index > -1 ? screenStacks[index] : extraScreenStack;
+        if (index > -1) {
+            createTab(index);
+            return screenStacks[index];
+        }
+        return extraScreenStack;
     }
 
     public void setBottomTabButtonByIndex(Integer index, ScreenParams params) {
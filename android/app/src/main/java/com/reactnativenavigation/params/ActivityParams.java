@@ -14,4 +14,12 @@ public class ActivityParams {
     public SideMenuParams leftSideMenuParams;
     public SideMenuParams rightSideMenuParams;
     public boolean animateShow;
+    /**
+     * Create the screen stack of a tab only when it's first selected, instead of creating all tabs at launch
+     */
+    public boolean lazyTabs;
+    /**
+     * With lazyTabs, create the remaining tabs one by one when the main thread is idle after the first draw
+     */
+    public boolean preloadTabs;
 }
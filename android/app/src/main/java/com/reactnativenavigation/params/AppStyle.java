@@ -5,9 +5,31 @@ import android.os.Bundle;
 import com.reactnativenavigation.params.parsers.StyleParamsParser;
 
 public class AppStyle {
-    public static StyleParams appStyle;
+    public static volatile StyleParams appStyle;
+    private static boolean setByApp;
 
     public static void setAppStyle(Bundle params) {
-        appStyle = new StyleParamsParser(params.getBundle("appStyle")).parse();
+        StyleParams style = new StyleParamsParser(params.getBundle("appStyle")).parse();
+        synchronized (AppStyle.class) {
+            appStyle = style;
+            setByApp = true;
+        }
+        StyleParamsParser.clearInternedStyles();
+    }
+
+    /**
+     * Sets the app style of a cached launch layout, used until the app starts and sets its own style. Does nothing
+     * once it has.
+     *
+     * @return false if the app has already set its style
+     */
+    public static boolean setLaunchLayoutAppStyle(Bundle params) {
+        synchronized (AppStyle.class) {
+            if (setByApp) {
+                return false;
+            }
+            appStyle = new StyleParamsParser(params.getBundle("appStyle")).parse();
+            return true;
+        }
     }
 }
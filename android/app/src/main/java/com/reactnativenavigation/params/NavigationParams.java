@@ -2,6 +2,9 @@ package com.reactnativenavigation.params;
 
 import android.os.Bundle;
 
+import com.reactnativenavigation.params.parsers.BundleReader;
+import com.reactnativenavigation.params.parsers.ParamsReader;
+
 public class NavigationParams {
     private static final String SCREEN_INSTANCE_ID = "screenInstanceID";
     private static final String NAVIGATOR_ID = "navigatorID";
@@ -12,9 +15,13 @@ public class NavigationParams {
     public String navigatorEventId;
 
     public NavigationParams(Bundle bundle) {
-        screenInstanceId = bundle.getString(SCREEN_INSTANCE_ID);
-        navigatorId = bundle.getString(NAVIGATOR_ID);
-        navigatorEventId = bundle.getString(NAVIGATOR_EVENT_ID);
+        this(new BundleReader(bundle));
+    }
+
+    public NavigationParams(ParamsReader params) {
+        screenInstanceId = params.getString(SCREEN_INSTANCE_ID);
+        navigatorId = params.getString(NAVIGATOR_ID);
+        navigatorEventId = params.getString(NAVIGATOR_EVENT_ID);
     }
 
     public Bundle toBundle() {
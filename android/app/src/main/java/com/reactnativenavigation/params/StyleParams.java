@@ -4,14 +4,37 @@ import android.graphics.Typeface;
 import android.os.Bundle;
 import android.support.annotation.ColorInt;
 
+import com.reactnativenavigation.params.parsers.ParamsReader;
 import com.reactnativenavigation.utils.TypefaceLoader;
 
-public class StyleParams {
-    public Bundle params;
+/**
+ * Parsed style params are interned by {@link com.reactnativenavigation.params.parsers.StyleParamsParser} and shared
+ * between screens with the same style, so they must not be modified once parsed. Use {@link #copy()} to change a
+ * single screen's style.
+ */
+public class StyleParams implements Cloneable {
+    private final Bundle params;
 
     public StyleParams(Bundle params) {
         this.params = params;
     }
+
+    /**
+     * The raw style these params were parsed from, used when merging style updates. The returned Bundle must not be
+     * modified.
+     */
+    public Bundle toBundle() {
+        return params;
+    }
+
+    public StyleParams copy() {
+        try {
+            return (StyleParams) clone();
+        } catch (CloneNotSupportedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     public static class Color {
         @ColorInt
         private Integer color = null;
@@ -40,6 +63,10 @@ public class StyleParams {
             return bundle.containsKey(key) ? new Color(bundle.getInt(key)) : new Color();
         }
 
+        public static Color parse(ParamsReader params, String key) {
+            return params.hasKey(key) ? new Color(params.getInt(key, 0)) : new Color();
+        }
+
         public String getHexColor() {
             return String.format("#%06X", (0xFFFFFF & getColor()));
         }
@@ -108,8 +135,11 @@ public class StyleParams {
     public int selectedTopTabIndicatorHeight;
     public Color selectedTopTabIndicatorColor;
     public boolean topTabsScrollable;
+    public int topTabsOffscreenPageLimit;
 
     public Color screenBackgroundColor;
+    public int screenRenderDeadline;
+    public String screenPlaceholderLayout;
 
     public boolean drawScreenAboveBottomTabs;
 
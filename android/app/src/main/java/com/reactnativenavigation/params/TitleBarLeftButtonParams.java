@@ -9,6 +9,7 @@ public class TitleBarLeftButtonParams extends TitleBarButtonParams {
 
     public TitleBarLeftButtonParams(TitleBarButtonParams params) {
         icon = params.icon;
+        iconSource = params.iconSource;
         color = params.color;
         eventId = params.eventId;
         enabled = params.enabled;
@@ -10,9 +10,15 @@ import com.reactnativenavigation.views.SideMenu;
 
 public class ActivityParamsParser extends Parser {
     public static ActivityParams parse(Bundle params) {
-        ActivityParams result = new ActivityParams();
-
         AppStyle.setAppStyle(params);
+        return parseLayout(params);
+    }
+
+    /**
+     * Parses the layout against the current {@link AppStyle}, without setting the app style from the params
+     */
+    public static ActivityParams parseLayout(Bundle params) {
+        ActivityParams result = new ActivityParams();
 
         if (hasKey(params, "screen")) {
             result.type = ActivityParams.Type.SingleScreen;
@@ -22,7 +28,7 @@ public class ActivityParamsParser extends Parser {
 
         if (hasKey(params, "tabs")) {
             result.type = ActivityParams.Type.TabBased;
-            result.tabParams = new ScreenParamsParser().parseTabs(params.getBundle("tabs"));
+            result.tabParams = new ScreenParamsParser().parseTabs(new BundleReader(params).getList("tabs"));
 		}
 
         if (hasKey(params, "sideMenu")) {
@@ -32,6 +38,8 @@ public class ActivityParamsParser extends Parser {
         }
 
         result.animateShow = params.getBoolean("animateShow", true);
+        result.lazyTabs = params.getBoolean("lazyTabs", false);
+        result.preloadTabs = params.getBoolean("preloadTabs", false);
 
         return result;
     }
@@ -1,11 +1,9 @@
 package com.reactnativenavigation.params.parsers;
 
-import android.os.Bundle;
-
 class AnimationParser extends Parser {
-    private Bundle params;
+    private ParamsReader params;
 
-    AnimationParser(Bundle params) {
+    AnimationParser(ParamsReader params) {
         this.params = params;
     }
 
@@ -0,0 +1,159 @@
+package com.reactnativenavigation.params.parsers;
+
+import android.os.Bundle;
+import android.support.annotation.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+public class BundleReader implements ParamsReader {
+    private final Bundle bundle;
+
+    public BundleReader(Bundle bundle) {
+        this.bundle = bundle;
+    }
+
+    @Override
+    public boolean hasKey(String key) {
+        return bundle.containsKey(key);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return bundle.isEmpty();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return bundle.keySet();
+    }
+
+    @Nullable
+    @Override
+    public Object getValue(String key) {
+        return normalize(bundle.get(key));
+    }
+
+    private static Object normalize(Object value) {
+        if (value instanceof Bundle) {
+            return new BundleReader((Bundle) value);
+        }
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            List<Object> result = new ArrayList<>(list.size());
+            for (Object item : list) {
+                result.add(normalize(item));
+            }
+            return result;
+        }
+        if (value != null && value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            List<Object> result = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                result.add(normalize(Array.get(value, i)));
+            }
+            return result;
+        }
+        return value;
+    }
+
+    @Nullable
+    @Override
+    public String getString(String key) {
+        return bundle.getString(key);
+    }
+
+    @Override
+    public String getString(String key, String defaultValue) {
+        return bundle.getString(key, defaultValue);
+    }
+
+    @Override
+    public boolean getBoolean(String key, boolean defaultValue) {
+        return bundle.getBoolean(key, defaultValue);
+    }
+
+    @Override
+    public int getInt(String key, int defaultValue) {
+        return bundle.getInt(key, defaultValue);
+    }
+
+    @Override
+    public double getDouble(String key, double defaultValue) {
+        return bundle.getDouble(key, defaultValue);
+    }
+
+    @Nullable
+    @Override
+    public ParamsReader getMap(String key) {
+        Bundle map = bundle.getBundle(key);
+        return map == null ? null : new BundleReader(map);
+    }
+
+    @Nullable
+    @Override
+    public List<ParamsReader> getList(String key) {
+        Object value = bundle.get(key);
+        if (value instanceof List) {
+            List<?> array = (List<?>) value;
+            List<ParamsReader> result = new ArrayList<>(array.size());
+            for (Object item : array) {
+                if (item instanceof Bundle) {
+                    result.add(new BundleReader((Bundle) item));
+                }
+            }
+            return result;
+        }
+        if (value instanceof Bundle) {
+            return getIndexedList((Bundle) value);
+        }
+        return null;
+    }
+
+    private List<ParamsReader> getIndexedList(Bundle array) {
+        List<ParamsReader> result = new ArrayList<>(Collections.nCopies(array.size(), (ParamsReader) null));
+        for (String index : array.keySet()) {
+            result.set(Integer.parseInt(index), new BundleReader(array.getBundle(index)));
+        }
+        return result;
+    }
+
+    @Nullable
+    @Override
+    public List<String> getStringList(String key) {
+        Object value = bundle.get(key);
+        if (value instanceof String[]) {
+            return new ArrayList<>(Arrays.asList((String[]) value));
+        }
+        if (value instanceof Bundle) {
+            return getIndexedStringList((Bundle) value);
+        }
+        return null;
+    }
+
+    private List<String> getIndexedStringList(Bundle array) {
+        List<String> result = new ArrayList<>(Collections.nCopies(array.size(), (String) null));
+        for (String index : array.keySet()) {
+            result.set(Integer.parseInt(index), array.getString(index));
+        }
+        return result;
+    }
+
+    @Nullable
+    @Override
+    public Bundle getBundle(String key) {
+        return bundle.getBundle(key);
+    }
+
+    @Override
+    public Bundle toBundle() {
+        return bundle;
+    }
+}
@@ -1,7 +1,5 @@
 package com.reactnativenavigation.params.parsers;
 
-import android.os.Bundle;
-
 import com.reactnativenavigation.params.FabParams;
 import com.reactnativenavigation.params.TitleBarButtonParams;
 import com.reactnativenavigation.params.TitleBarLeftButtonParams;
@@ -14,18 +12,18 @@ public class ButtonParser extends Parser {
     private static final String KEY_FAB = "fab";
     private static final String KEY_BACK_BUTTON_HIDDEN = "backButtonHidden";
 
-    public static List<TitleBarButtonParams> parseRightButton(Bundle params) {
+    public static List<TitleBarButtonParams> parseRightButton(ParamsReader params) {
         List<TitleBarButtonParams> rightButtons = null;
-        if (hasKey(params, KEY_RIGHT_BUTTONS)) {
-            rightButtons = new TitleBarButtonParamsParser().parseButtons(params.getBundle(KEY_RIGHT_BUTTONS));
+        if (params.hasKey(KEY_RIGHT_BUTTONS)) {
+            rightButtons = new TitleBarButtonParamsParser().parseButtons(params.getList(KEY_RIGHT_BUTTONS));
         }
         return rightButtons;
     }
 
-    public static TitleBarLeftButtonParams parseLeftButton(Bundle params) {
+    public static TitleBarLeftButtonParams parseLeftButton(ParamsReader params) {
         TitleBarLeftButtonParams leftButton = null;
-        if (hasKey(params, KEY_LEFT_BUTTON)) {
-            leftButton =  new TitleBarLeftButtonParamsParser().parseSingleButton(params.getBundle(KEY_LEFT_BUTTON));
+        if (params.hasKey(KEY_LEFT_BUTTON)) {
+            leftButton =  new TitleBarLeftButtonParamsParser().parseSingleButton(params.getMap(KEY_LEFT_BUTTON));
 
             boolean backButtonHidden = params.getBoolean(KEY_BACK_BUTTON_HIDDEN, false);
             if (backButtonHidden && leftButton.isBackButton()) {
@@ -35,10 +33,10 @@ public class ButtonParser extends Parser {
         return leftButton;
     }
 
-    public static FabParams parseFab(Bundle params, String navigatorEventId, String screenInstanceId) {
+    public static FabParams parseFab(ParamsReader params, String navigatorEventId, String screenInstanceId) {
         FabParams fabParams = null;
-        if (hasKey(params, KEY_FAB)) {
-            fabParams = new FabParamsParser().parse(params.getBundle(KEY_FAB), navigatorEventId, screenInstanceId);
+        if (params.hasKey(KEY_FAB)) {
+            fabParams = new FabParamsParser().parse(params.getMap(KEY_FAB), navigatorEventId, screenInstanceId);
         }
         return fabParams;
     }
@@ -1,7 +1,5 @@
 package com.reactnativenavigation.params.parsers;
 
-import android.os.Bundle;
-
 import com.reactnativenavigation.params.CollapsingTopBarParams;
 import com.reactnativenavigation.params.StyleParams;
 import com.reactnativenavigation.views.collapsingToolbar.behaviours.CollapseBehaviour;
@@ -10,18 +8,18 @@ import com.reactnativenavigation.views.collapsingToolbar.behaviours.CollapseTopB
 import com.reactnativenavigation.views.collapsingToolbar.behaviours.TitleBarHideOnScrollBehaviour;
 
 class CollapsingTopBarParamsParser extends Parser {
-    private Bundle params;
+    private ParamsReader params;
     private boolean titleBarHideOnScroll;
     private boolean drawBelowTopBar;
     private final boolean hasReactView;
     private final boolean hasBackgroundImage;
 
-    CollapsingTopBarParamsParser(Bundle params, boolean titleBarHideOnScroll, boolean drawBelowTopBar) {
+    CollapsingTopBarParamsParser(ParamsReader params, boolean titleBarHideOnScroll, boolean drawBelowTopBar) {
         this.params = params;
         this.titleBarHideOnScroll = titleBarHideOnScroll;
         this.drawBelowTopBar = drawBelowTopBar;
-        hasReactView = params.containsKey("collapsingToolBarComponent");
-        hasBackgroundImage = params.containsKey("collapsingToolBarImage");
+        hasReactView = params.hasKey("collapsingToolBarComponent");
+        hasBackgroundImage = params.hasKey("collapsingToolBarImage");
     }
 
     public CollapsingTopBarParams parse() {
@@ -31,7 +29,7 @@ class CollapsingTopBarParamsParser extends Parser {
         CollapsingTopBarParams result = new CollapsingTopBarParams();
         result.imageUri = params.getString("collapsingToolBarImage", null);
         result.reactViewId = params.getString("collapsingToolBarComponent", null);
-        result.expendOnTopTabChange = params.getBoolean("expendCollapsingToolBarOnTopTabChange");
+        result.expendOnTopTabChange = params.getBoolean("expendCollapsingToolBarOnTopTabChange", false);
         result.scrimColor = getColor(params, "collapsingToolBarCollapsedColor", new StyleParams.Color());
         result.expendedTitleBarColor = getColor(params, "collapsingToolBarExpendedColor", new StyleParams.Color());
         result.showTitleWhenCollapsed = hasReactView;
@@ -9,11 +9,11 @@ import com.reactnativenavigation.react.ImageLoader;
 import java.util.List;
 
 public class ContextualMenuButtonParamsParser extends TitleBarButtonParamsParser {
-    public List<ContextualMenuButtonParams> parseContextualMenuButtons(Bundle params) {
-        return parseBundle(params, new ParseStrategy<ContextualMenuButtonParams>() {
+    public List<ContextualMenuButtonParams> parseContextualMenuButtons(List<ParamsReader> params) {
+        return parseList(params, new ParseStrategy<ContextualMenuButtonParams>() {
             @Override
-            public ContextualMenuButtonParams parse(Bundle button) {
-                return parseSingleContextualMenuButton(button);
+            public ContextualMenuButtonParams parse(ParamsReader button) {
+                return parseSingleContextualMenuButton(button.toBundle());
             }
         });
     }
@@ -8,7 +8,7 @@ import com.reactnativenavigation.params.NavigationParams;
 public class ContextualMenuParamsParser extends Parser {
     public ContextualMenuParams parse(Bundle bundle) {
         ContextualMenuParams result = new ContextualMenuParams();
-        result.buttons = new ContextualMenuButtonParamsParser().parseContextualMenuButtons(bundle.getBundle("buttons"));
+        result.buttons = new ContextualMenuButtonParamsParser().parseContextualMenuButtons(new BundleReader(bundle).getList("buttons"));
         result.leftButton = new TitleBarLeftButtonParamsParser().parseSingleButton(bundle.getBundle("backButton"));
         result.navigationParams = new NavigationParams(bundle.getBundle("navigationParams"));
         return result;
@@ -8,7 +8,11 @@ import com.reactnativenavigation.params.StyleParams;
 import com.reactnativenavigation.react.ImageLoader;
 
 public class FabParamsParser extends Parser {
-    public FabParams parse(Bundle params, final String navigatorEventId, String screenInstanceId) {
+    public FabParams parse(Bundle params, String navigatorEventId, String screenInstanceId) {
+        return parse(new BundleReader(params), navigatorEventId, screenInstanceId);
+    }
+
+    public FabParams parse(ParamsReader params, final String navigatorEventId, String screenInstanceId) {
         FabParams fabParams = new FabParams();
         fabParams.collapsedId = params.getString("collapsedId");
         fabParams.expendedId = params.getString("expendedId");
@@ -16,16 +20,16 @@ public class FabParamsParser extends Parser {
         fabParams.screenInstanceId = screenInstanceId;
         fabParams.backgroundColor = getColor(params, "backgroundColor", new StyleParams.Color());
 
-        if (hasKey(params, "collapsedIcon")) {
+        if (params.hasKey("collapsedIcon")) {
             fabParams.collapsedIcon = ImageLoader.loadImage(params.getString("collapsedIcon"));
         }
-        if (hasKey(params, "expendedIcon")) {
+        if (params.hasKey("expendedIcon")) {
             fabParams.expendedIcon = ImageLoader.loadImage(params.getString("expendedIcon"));
         }
-        if (hasKey(params, "actions")) {
-            fabParams.actions = parseBundle(params.getBundle("actions"), new ParseStrategy<FabActionParams>() {
+        if (params.hasKey("actions")) {
+            fabParams.actions = parseList(params.getList("actions"), new ParseStrategy<FabActionParams>() {
                 @Override
-                public FabActionParams parse(Bundle params) {
+                public FabActionParams parse(ParamsReader params) {
                     return new FabActionParamsParser().parse(params, navigatorEventId);
                 }
             });
@@ -0,0 +1,55 @@
+package com.reactnativenavigation.params.parsers;
+
+import android.os.Bundle;
+import android.support.annotation.Nullable;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Read only access to the params sent from JS. Lets the parsers read a ReadableMap directly,
+ * without converting it to a Bundle first, while still supporting params that arrive as a Bundle.
+ * Missing keys and null values are treated the same.
+ */
+public interface ParamsReader {
+    boolean hasKey(String key);
+
+    boolean isEmpty();
+
+    Set<String> keySet();
+
+    /**
+     * @return the value as a String, Boolean, Double for any number, ParamsReader for a map or List of such values,
+     * or null
+     */
+    @Nullable
+    Object getValue(String key);
+
+    @Nullable
+    String getString(String key);
+
+    String getString(String key, String defaultValue);
+
+    boolean getBoolean(String key, boolean defaultValue);
+
+    int getInt(String key, int defaultValue);
+
+    double getDouble(String key, double defaultValue);
+
+    @Nullable
+    ParamsReader getMap(String key);
+
+    @Nullable
+    List<ParamsReader> getList(String key);
+
+    @Nullable
+    List<String> getStringList(String key);
+
+    /**
+     * Only for values which must be kept as a Bundle, such as passProps
+     */
+    @Nullable
+    Bundle getBundle(String key);
+
+    Bundle toBundle();
+}
@@ -19,6 +19,12 @@ public class Parser {
         }
     }
 
+    static void assertKeyExists(ParamsReader params, String key) {
+        if (!params.hasKey(key)) {
+            throw new KeyDoesNotExistsException(key);
+        }
+    }
+
     private static class KeyDoesNotExistsException extends RuntimeException {
         KeyDoesNotExistsException(String key) {
             super(key);
@@ -26,13 +32,21 @@ public class Parser {
     }
 
     interface ParseStrategy<T> {
-        T parse(Bundle params);
+        T parse(ParamsReader params);
     }
 
     <T> List<T> parseBundle(Bundle params, ParseStrategy<T> strategy) {
         ArrayList<T> result = new ArrayList<>(Collections.nCopies(params.keySet().size(), (T) null));
         for (String key : params.keySet()) {
-            result.set(Integer.parseInt(key), strategy.parse(params.getBundle(key)));
+            result.set(Integer.parseInt(key), strategy.parse(new BundleReader(params.getBundle(key))));
+        }
+        return result;
+    }
+
+    <T> List<T> parseList(List<ParamsReader> params, ParseStrategy<T> strategy) {
+        List<T> result = new ArrayList<>(params.size());
+        for (ParamsReader item : params) {
+            result.add(strategy.parse(item));
         }
         return result;
     }
@@ -45,4 +59,9 @@ public class Parser {
         StyleParams.Color color = StyleParams.Color.parse(bundle, key);
         return color.hasColor() || defaultColor == null ? color : defaultColor;
     }
+
+    protected StyleParams.Color getColor(ParamsReader params, String key, StyleParams.Color defaultColor) {
+        StyleParams.Color color = StyleParams.Color.parse(params, key);
+        return color.hasColor() || defaultColor == null ? color : defaultColor;
+    }
 }
@@ -1,12 +1,10 @@
 package com.reactnativenavigation.params.parsers;
 
-import android.graphics.drawable.Drawable;
 import android.os.Bundle;
 
 import com.reactnativenavigation.params.NavigationParams;
 import com.reactnativenavigation.params.PageParams;
 import com.reactnativenavigation.params.ScreenParams;
-import com.reactnativenavigation.react.ImageLoader;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -24,14 +22,18 @@ public class ScreenParamsParser extends Parser {
     private static final String ANIMATION_TYPE = "animationType";
     private static final String PASSPROPS_KEY = "passProps";
 
-    @SuppressWarnings("ConstantConditions")
     public static ScreenParams parse(Bundle params) {
+        return parse(new BundleReader(params));
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    public static ScreenParams parse(ParamsReader params) {
         ScreenParams result = new ScreenParams();
         result.screenId = params.getString(KEY_SCREEN_ID);
 		assertKeyExists(params, KEY_NAVIGATION_PARAMS);
-        result.navigationParams = new NavigationParams(params.getBundle(KEY_NAVIGATION_PARAMS));
+        result.navigationParams = new NavigationParams(params.getMap(KEY_NAVIGATION_PARAMS));
 
-        result.styleParams = new StyleParamsParser(params.getBundle(STYLE_PARAMS)).parse();
+        result.styleParams = new StyleParamsParser(params.getMap(STYLE_PARAMS)).parse();
 
         result.title = params.getString(KEY_TITLE);
         result.subtitle = params.getString(KEY_SUBTITLE);
@@ -41,12 +43,12 @@ public class ScreenParamsParser extends Parser {
 
         result.topTabParams = parseTopTabs(params);
 
-        if (hasKey(params, FRAGMENT_CREATOR_CLASS_NAME)) {
+        if (params.hasKey(FRAGMENT_CREATOR_CLASS_NAME)) {
             result.fragmentCreatorClassName = params.getString(FRAGMENT_CREATOR_CLASS_NAME);
             result.fragmentCreatorPassProps = params.getBundle(FRAGMENT_CREATOR_PASS_PROPS);
         }
 
-        if (hasKey(params, PASSPROPS_KEY)) {
+        if (params.hasKey(PASSPROPS_KEY)) {
             result.passProps = params.getBundle(PASSPROPS_KEY);
         }
 
@@ -63,46 +65,31 @@ public class ScreenParamsParser extends Parser {
         return result;
     }
 
-    private static List<String> getSharedElementsTransitions(Bundle params) {
-        Bundle sharedElements = params.getBundle("sharedElements");
-        if (sharedElements == null) {
-            return new ArrayList<>();
-        }
-        List<String> result = new ArrayList<>();
-        for (String key : sharedElements.keySet()) {
-            result.add(sharedElements.getString(key));
-        }
-        return result;
-    }
-
-    private static Drawable getTabIcon(Bundle params) {
-        Drawable tabIcon = null;
-        if (hasKey(params, "icon")) {
-            tabIcon = ImageLoader.loadImage(params.getString("icon"));
-        }
-        return tabIcon;
+    private static List<String> getSharedElementsTransitions(ParamsReader params) {
+        List<String> sharedElements = params.getStringList("sharedElements");
+        return sharedElements == null ? new ArrayList<String>() : sharedElements;
     }
 
-    private static String getTabLabel(Bundle params) {
+    private static String getTabLabel(ParamsReader params) {
         String tabLabel = null;
-        if (hasKey(params, "label")) {
+        if (params.hasKey("label")) {
             tabLabel = params.getString("label");
         }
         return tabLabel;
     }
 
-    private static List<PageParams> parseTopTabs(Bundle params) {
+    private static List<PageParams> parseTopTabs(ParamsReader params) {
         List<PageParams> topTabParams = null;
-        if (hasKey(params, TOP_TABS)) {
-            topTabParams = new TopTabParamsParser().parse(params.getBundle(TOP_TABS));
+        if (params.hasKey(TOP_TABS)) {
+            topTabParams = new TopTabParamsParser().parse(params.getList(TOP_TABS));
         }
         return topTabParams;
     }
 
-    List<ScreenParams> parseTabs(Bundle params) {
-        return parseBundle(params, new ParseStrategy<ScreenParams>() {
+    List<ScreenParams> parseTabs(List<ParamsReader> params) {
+        return parseList(params, new ParseStrategy<ScreenParams>() {
             @Override
-            public ScreenParams parse(Bundle screen) {
+            public ScreenParams parse(ParamsReader screen) {
                 return ScreenParamsParser.parse(screen);
             }
         });
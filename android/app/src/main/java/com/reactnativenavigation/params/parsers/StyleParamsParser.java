@@ -6,25 +6,93 @@ import android.os.Bundle;
 import com.reactnativenavigation.params.AppStyle;
 import com.reactnativenavigation.params.Orientation;
 import com.reactnativenavigation.params.StyleParams;
-
+import com.reactnativenavigation.utils.TypefaceLoader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parsed StyleParams are interned by their style params and the {@link AppStyle} they were parsed against, so screens
+ * with the same style share one instance instead of each allocating its own colors and fonts.
+ */
 public class StyleParamsParser {
-    private Bundle params;
+    private static final int MAX_INTERNED_STYLES = 64;
+    private static final Map<StyleKey, StyleParams> internedStyles =
+            new LinkedHashMap<StyleKey, StyleParams>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<StyleKey, StyleParams> eldest) {
+                    return size() > MAX_INTERNED_STYLES;
+                }
+            };
+
+    private ParamsReader params;
 
     public StyleParamsParser(Bundle params) {
+        this(params == null ? null : new BundleReader(params));
+    }
+
+    public StyleParamsParser(ParamsReader params) {
         this.params = params;
     }
 
     public StyleParamsParser merge(Bundle b) {
-        params.putAll(b);
+        Bundle merged = params == null ? new Bundle() : new Bundle(params.toBundle());
+        merged.putAll(b);
+        params = new BundleReader(merged);
         return this;
     }
 
+    /**
+     * Loads the fonts referenced by these params so a later parse, on the main thread, finds them cached
+     */
+    public void loadFonts() {
+        if (params == null) {
+            return;
+        }
+        for (String key : new String[]{"titleBarTitleFontFamily", "bottomTabFontFamily"}) {
+            if (params.hasKey(key)) {
+                new TypefaceLoader(params.getString(key)).getTypeFace();
+            }
+        }
+    }
+
+    /**
+     * Styles parsed against a previous AppStyle are never looked up again
+     */
+    public static void clearInternedStyles() {
+        synchronized (internedStyles) {
+            internedStyles.clear();
+        }
+    }
+
+    /**
+     * @return a shared instance which must not be modified, see {@link StyleParams#copy()}
+     */
     public StyleParams parse() {
         if (params == null) {
             return createDefaultStyleParams();
         }
 
-        StyleParams result = new StyleParams(params);
+        StyleKey key = new StyleKey(params, AppStyle.appStyle);
+        synchronized (internedStyles) {
+            StyleParams interned = internedStyles.get(key);
+            if (interned != null) {
+                return interned;
+            }
+        }
+        StyleParams result = parseStyle();
+        synchronized (internedStyles) {
+            internedStyles.put(key, result);
+        }
+        return result;
+    }
+
+    private StyleParams parseStyle() {
+        StyleParams result = new StyleParams(params.toBundle());
         result.orientation = Orientation.fromString(params.getString("orientation", getDefaultOrientation()));
         result.statusBarColor = getColor("statusBarColor", getDefaultStatusBarColor());
 
@@ -32,7 +100,7 @@ public class StyleParamsParser {
         result.titleBarHideOnScroll = getBoolean("titleBarHideOnScroll", getDefaultTitleBarHideOnScroll());
         result.topBarTransparent = getBoolean("topBarTransparent", getDefaultTopBarHidden());
         result.topBarCollapseOnScroll = getBoolean("topBarCollapseOnScroll", false);
-        result.drawScreenBelowTopBar = params.getBoolean("drawBelowTopBar", getDefaultScreenBelowTopBar());
+        result.drawScreenBelowTopBar = getBoolean("drawBelowTopBar", getDefaultScreenBelowTopBar());
         if (result.topBarTransparent) {
             result.drawScreenBelowTopBar = false;
         }
@@ -59,12 +127,15 @@ public class StyleParamsParser {
         result.selectedTopTabIndicatorHeight = getInt("selectedTopTabIndicatorHeight", getDefaultSelectedTopTabIndicatorHeight());
         result.selectedTopTabIndicatorColor = getColor("selectedTopTabIndicatorColor", getDefaultSelectedTopTabIndicatorColor());
         result.topTabsScrollable = getBoolean("topTabsScrollable", getDefaultTopTabsScrollable());
+        result.topTabsOffscreenPageLimit = getInt("topTabsOffscreenPageLimit", getDefaultTopTabsOffscreenPageLimit());
 
         result.screenBackgroundColor = getColor("screenBackgroundColor", getDefaultScreenBackgroundColor());
+        result.screenRenderDeadline = getInt("screenRenderDeadline", getDefaultScreenRenderDeadline());
+        result.screenPlaceholderLayout = params.getString("screenPlaceholderLayout", getDefaultScreenPlaceholderLayout());
 
         result.bottomTabsHidden = getBoolean("bottomTabsHidden", getDefaultBottomTabsHidden());
         result.drawScreenAboveBottomTabs = !result.bottomTabsHidden &&
-                                           params.getBoolean("drawScreenAboveBottomTabs", getDefaultDrawScreenAboveBottomTabs());
+                                           getBoolean("drawScreenAboveBottomTabs", getDefaultDrawScreenAboveBottomTabs());
         if (result.titleBarHideOnScroll) {
             result.drawScreenAboveBottomTabs = false;
         }
@@ -181,6 +252,18 @@ public class StyleParamsParser {
         return AppStyle.appStyle != null && AppStyle.appStyle.topTabsScrollable;
     }
 
+    private int getDefaultTopTabsOffscreenPageLimit() {
+        return AppStyle.appStyle == null ? -1 : AppStyle.appStyle.topTabsOffscreenPageLimit;
+    }
+
+    private int getDefaultScreenRenderDeadline() {
+        return AppStyle.appStyle == null ? -1 : AppStyle.appStyle.screenRenderDeadline;
+    }
+
+    private String getDefaultScreenPlaceholderLayout() {
+        return AppStyle.appStyle == null ? null : AppStyle.appStyle.screenPlaceholderLayout;
+    }
+
     private StyleParams.Color getDefaultTopTabIconColor() {
         return AppStyle.appStyle == null ? new StyleParams.Color() : AppStyle.appStyle.topTabIconColor;
     }
@@ -254,7 +337,7 @@ public class StyleParamsParser {
     }
 
     private boolean getBoolean(String key, boolean defaultValue) {
-        return params.containsKey(key) ? params.getBoolean(key) : defaultValue;
+        return params.getBoolean(key, defaultValue);
     }
 
     private StyleParams.Color getColor(String key, StyleParams.Color defaultColor) {
@@ -272,6 +355,60 @@ public class StyleParamsParser {
     }
 
     private int getInt(String key, int defaultValue) {
-        return params.containsKey(key) ? params.getInt(key) : defaultValue;
+        return params.getInt(key, defaultValue);
+    }
+
+    /**
+     * An immutable snapshot of the style's values, read once when the key is created, so looking it up doesn't read
+     * the params again and the interned styles don't keep the params, which may be backed by a native map.
+     * Numbers are compared as doubles, since JS numbers may arrive as ints or doubles.
+     */
+    private static class StyleKey {
+        private final Map<String, Object> style;
+        private final StyleParams appStyle;
+        private final int hash;
+
+        StyleKey(ParamsReader style, StyleParams appStyle) {
+            this.style = snapshot(style);
+            this.appStyle = appStyle;
+            hash = 31 * this.style.hashCode() + System.identityHashCode(appStyle);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof StyleKey)) {
+                return false;
+            }
+            StyleKey other = (StyleKey) o;
+            return hash == other.hash && appStyle == other.appStyle && style.equals(other.style);
+        }
+
+        private static Map<String, Object> snapshot(ParamsReader params) {
+            Map<String, Object> result = new HashMap<>();
+            for (String key : params.keySet()) {
+                result.put(key, snapshotValue(params.getValue(key)));
+            }
+            return Collections.unmodifiableMap(result);
+        }
+
+        private static Object snapshotValue(Object value) {
+            if (value instanceof ParamsReader) {
+                return snapshot((ParamsReader) value);
+            }
+            if (value instanceof List) {
+                List<?> list = (List<?>) value;
+                List<Object> result = new ArrayList<>(list.size());
+                for (Object item : list) {
+                    result.add(snapshotValue(item));
+                }
+                return Collections.unmodifiableList(result);
+            }
+            return value;
+        }
     }
 }
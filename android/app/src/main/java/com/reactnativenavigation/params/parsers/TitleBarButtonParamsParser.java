@@ -13,19 +13,33 @@ public class TitleBarButtonParamsParser extends Parser {
     public List<TitleBarButtonParams> parseButtons(Bundle params) {
         return parseBundle(params, new ParseStrategy<TitleBarButtonParams>() {
             @Override
-            public TitleBarButtonParams parse(Bundle button) {
+            public TitleBarButtonParams parse(ParamsReader button) {
+                return parseSingleButton(button);
+            }
+        });
+    }
+
+    public List<TitleBarButtonParams> parseButtons(List<ParamsReader> params) {
+        return parseList(params, new ParseStrategy<TitleBarButtonParams>() {
+            @Override
+            public TitleBarButtonParams parse(ParamsReader button) {
                 return parseSingleButton(button);
             }
         });
     }
 
     public TitleBarButtonParams parseSingleButton(Bundle bundle) {
+        return parseSingleButton(new BundleReader(bundle));
+    }
+
+    public TitleBarButtonParams parseSingleButton(ParamsReader bundle) {
         TitleBarButtonParams result = new TitleBarButtonParams();
         result.label = bundle.getString("title");
-        if (hasKey(bundle, "icon")) {
-            result.icon = ImageLoader.loadImage(bundle.getString("icon"));
+        if (bundle.hasKey("icon")) {
+            result.iconSource = bundle.getString("icon");
+            result.icon = ImageLoader.loadImage(result.iconSource);
         }
-        if (hasKey(bundle, "buttonColor")) {
+        if (bundle.hasKey("buttonColor")) {
             result.color = getColor(bundle, "buttonColor", AppStyle.appStyle.titleBarButtonColor);
         } else {
             result.color = getColor(bundle, "color", AppStyle.appStyle.titleBarButtonColor);
@@ -8,6 +8,10 @@ import com.reactnativenavigation.params.TitleBarLeftButtonParams;
 public class TitleBarLeftButtonParamsParser extends TitleBarButtonParamsParser {
 
     public TitleBarLeftButtonParams parseSingleButton(Bundle params) {
+        return parseSingleButton(new BundleReader(params));
+    }
+
+    public TitleBarLeftButtonParams parseSingleButton(ParamsReader params) {
         TitleBarLeftButtonParams leftButtonParams = new TitleBarLeftButtonParams(super.parseSingleButton(params));
         if (params.isEmpty()) {
             return leftButtonParams;
@@ -1,38 +1,157 @@
 package com.reactnativenavigation.react;
 
+import android.content.ComponentCallbacks2;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
 import android.net.Uri;
+import android.support.annotation.Nullable;
+import android.util.Log;
+import android.util.LruCache;
 
 import com.reactnativenavigation.NavigationApplication;
+import com.reactnativenavigation.utils.ViewUtils;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Loads the icons of buttons, tabs and fabs. Icons from files are decoded at the size they're shown at and kept in a
+ * memory cache sized in bytes, so a screen pushed again reuses the icons decoded for it before. Concurrent loads of
+ * the same icon share one decode. In debug builds icons are loaded from the packager by {@link JsDevImageLoader},
+ * which keeps them in the same cache.
+ * <p>
+ * Icons are loaded by the params parsers, which run off the main thread.
+ */
 public class ImageLoader {
+    private static final String TAG = "ImageLoader";
     private static final String FILE_SCHEME = "file";
+    private static final int ICON_SIZE_DP = 24;
+    private static final int CACHE_SIZE_FRACTION = 32;
+
+    private static final LruCache<String, Bitmap> cache = new LruCache<String, Bitmap>((int) (Runtime.getRuntime().maxMemory() / CACHE_SIZE_FRACTION)) {
+        @Override
+        protected int sizeOf(String key, Bitmap bitmap) {
+            return bitmap.getByteCount();
+        }
+    };
+    private static final ConcurrentMap<String, FutureTask<Bitmap>> inFlight = new ConcurrentHashMap<>();
 
     public static Drawable loadImage(String iconSource) {
+        return loadImage(iconSource, (int) ViewUtils.convertDpToPixel(ICON_SIZE_DP));
+    }
+
+    /**
+     * @param size the width and height the icon is shown at, in pixels. Larger images are downsampled towards it.
+     */
+    public static Drawable loadImage(String iconSource, int size) {
         if (NavigationApplication.instance.isDebug()) {
-            return JsDevImageLoader.loadIcon(iconSource);
+            return JsDevImageLoader.loadIcon(iconSource, size);
         } else {
             Uri uri = Uri.parse(iconSource);
             if (isLocalFile(uri)) {
-                return loadFile(uri);
+                return loadFile(uri, size);
             } else {
                 return loadResource(iconSource);
             }
         }
     }
 
+    public static void trimMemory(int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND) {
+            cache.evictAll();
+        } else if (level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW ||
+                   level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            cache.trimToSize(cache.size() / 2);
+        }
+    }
+
+    @Nullable
+    static Bitmap getCachedBitmap(String key) {
+        return cache.get(key);
+    }
+
+    static void cacheBitmap(String key, Bitmap bitmap) {
+        cache.put(key, bitmap);
+    }
+
+    static void clearCache() {
+        cache.evictAll();
+    }
+
     private static boolean isLocalFile(Uri uri) {
         return FILE_SCHEME.equals(uri.getScheme());
     }
 
-    private static Drawable loadFile(Uri uri) {
-        Bitmap bitmap = BitmapFactory.decodeFile(uri.getPath());
+    private static Drawable loadFile(Uri uri, int size) {
+        Bitmap bitmap = getBitmap(uri.getPath(), size);
         return new BitmapDrawable(NavigationApplication.instance.getResources(), bitmap);
     }
 
+    private static Bitmap getBitmap(final String path, final int size) {
+        final String key = path + "@" + size;
+        Bitmap bitmap = cache.get(key);
+        if (bitmap != null) {
+            return bitmap;
+        }
+        FutureTask<Bitmap> task = new FutureTask<>(new Callable<Bitmap>() {
+            @Override
+            public Bitmap call() {
+                Bitmap result = decodeFile(path, size);
+                if (result != null) {
+                    cache.put(key, result);
+                }
+                return result;
+            }
+        });
+        FutureTask<Bitmap> existing = inFlight.putIfAbsent(key, task);
+        if (existing == null) {
+            try {
+                task.run();
+            } finally {
+                inFlight.remove(key, task);
+            }
+        } else {
+            task = existing;
+        }
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            Log.e(TAG, "Unable to load icon: " + path, e);
+            return null;
+        }
+    }
+
+    private static Bitmap decodeFile(String path, int size) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeFile(path, options);
+        options.inSampleSize = getSampleSize(options.outWidth, options.outHeight, size);
+        options.inJustDecodeBounds = false;
+        return BitmapFactory.decodeFile(path, options);
+    }
+
+    /**
+     * @return the largest power of two which keeps both dimensions at least the requested size
+     */
+    static int getSampleSize(int width, int height, int size) {
+        int sampleSize = 1;
+        if (size <= 0) {
+            return sampleSize;
+        }
+        while (width / (sampleSize * 2) >= size && height / (sampleSize * 2) >= size) {
+            sampleSize *= 2;
+        }
+        return sampleSize;
+    }
+
     private static Drawable loadResource(String iconSource) {
         return ResourceDrawableIdHelper.instance.getResourceDrawable(NavigationApplication.instance, iconSource);
     }
@@ -4,36 +4,218 @@ import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
-import android.os.StrictMode;
-import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.util.Log;
 
 import com.reactnativenavigation.NavigationApplication;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
 import java.net.URL;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
+/**
+ * Loads icons from the packager in debug builds. Icons are fetched in parallel in the background and returned as
+ * placeholders which show the bitmap once it's loaded. Loaded icons are kept in {@link ImageLoader}'s memory cache
+ * until JS is reloaded.
+ * <p>
+ * Downloaded icons are kept on disk, one file per icon and size, so after a reload they're shown from the disk right
+ * away and then revalidated with the packager, using the ETag it sent or, if there's none, a hash of the content.
+ */
 public class JsDevImageLoader {
     private static final String TAG = "JsDevImageLoader";
-    public static Drawable loadIcon(String iconDevUri) {
+    private static final String CACHE_DIR = "dev_icons";
+    private static final int THREAD_COUNT = 4;
+    private static final int TIMEOUT_MS = 5000;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT, new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return new Thread(runnable, TAG);
+        }
+    });
+    private static final Map<String, Request> requests = new HashMap<>();
+
+    public static Drawable loadIcon(final String iconDevUri, int size) {
+        final String key = iconDevUri + "@" + size;
+        Bitmap cached = ImageLoader.getCachedBitmap(key);
+        if (cached != null) {
+            return new BitmapDrawable(NavigationApplication.instance.getResources(), cached);
+        }
+        PlaceholderIconDrawable drawable = new PlaceholderIconDrawable(size);
+        Request request;
+        boolean isNew = false;
+        synchronized (requests) {
+            request = requests.get(key);
+            if (request == null) {
+                request = new Request(key, size);
+                requests.put(key, request);
+                isNew = true;
+            }
+            request.targets.add(drawable);
+            if (request.bitmap != null) {
+                deliver(drawable, request.bitmap);
+            }
+        }
+        if (isNew) {
+            final Request newRequest = request;
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        load(iconDevUri, newRequest);
+                    } catch (Exception e) {
+                        Log.e(TAG, "Unable to load icon: " + iconDevUri, e);
+                    } finally {
+                        synchronized (requests) {
+                            requests.remove(key);
+                        }
+                    }
+                }
+            });
+        }
+        return drawable;
+    }
+
+    private static void load(String iconDevUri, Request request) throws IOException {
+        File file = new File(getCacheDir(), hash(request.key.getBytes(UTF_8)));
+        File tagFile = new File(file.getPath() + ".etag");
+        String tag = null;
+        if (file.exists() && tagFile.exists()) {
+            byte[] cached = readFully(new FileInputStream(file));
+            tag = new String(readFully(new FileInputStream(tagFile)), UTF_8);
+            onLoaded(request, cached);
+        }
+
+        HttpURLConnection connection = (HttpURLConnection) new URL(iconDevUri).openConnection();
+        connection.setConnectTimeout(TIMEOUT_MS);
+        connection.setReadTimeout(TIMEOUT_MS);
+        if (tag != null) {
+            connection.setRequestProperty("If-None-Match", tag);
+        }
         try {
-            StrictMode.ThreadPolicy threadPolicy = StrictMode.getThreadPolicy();
-            StrictMode.setThreadPolicy(new StrictMode.ThreadPolicy.Builder().permitNetwork().build());
+            if (connection.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                return;
+            }
+            byte[] data = readFully(connection.getInputStream());
+            String etag = connection.getHeaderField("ETag");
+            String newTag = etag != null ? etag : hash(data);
+            if (newTag.equals(tag)) {
+                return;
+            }
+            tagFile.delete();
+            write(file, data);
+            write(tagFile, newTag.getBytes(UTF_8));
+            onLoaded(request, data);
+        } finally {
+            connection.disconnect();
+        }
+    }
 
-            Drawable drawable = tryLoadIcon(iconDevUri);
+    private static void onLoaded(Request request, byte[] data) {
+        Bitmap bitmap = decode(data, request.size);
+        if (bitmap == null) {
+            return;
+        }
+        ImageLoader.cacheBitmap(request.key, bitmap);
+        synchronized (requests) {
+            request.bitmap = bitmap;
+            for (PlaceholderIconDrawable target : request.targets) {
+                deliver(target, bitmap);
+            }
+        }
+    }
+
+    private static void deliver(final PlaceholderIconDrawable target, final Bitmap bitmap) {
+        NavigationApplication.instance.runOnMainThread(new Runnable() {
+            @Override
+            public void run() {
+                target.setBitmap(bitmap);
+            }
+        });
+    }
 
-            StrictMode.setThreadPolicy(threadPolicy);
-            return drawable;
-        } catch (Exception e) {
-            Log.e(TAG, "Unable to load icon: " + iconDevUri);
-            return new BitmapDrawable();
+    @Nullable
+    private static Bitmap decode(byte[] data, int size) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeByteArray(data, 0, data.length, options);
+        options.inSampleSize = ImageLoader.getSampleSize(options.outWidth, options.outHeight, size);
+        options.inJustDecodeBounds = false;
+        return BitmapFactory.decodeByteArray(data, 0, data.length, options);
+    }
+
+    private static File getCacheDir() {
+        File dir = new File(NavigationApplication.instance.getCacheDir(), CACHE_DIR);
+        if (!dir.exists() && !dir.mkdirs()) {
+            Log.w(TAG, "Can't create " + dir);
+        }
+        return dir;
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+
+    private static void write(File file, byte[] data) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(data);
         }
     }
 
-    @NonNull
-    private static Drawable tryLoadIcon(String iconDevUri) throws IOException {
-        URL url = new URL(iconDevUri);
-        Bitmap bitmap = BitmapFactory.decodeStream(url.openStream());
-        return new BitmapDrawable(NavigationApplication.instance.getResources(), bitmap);
+    private static String hash(byte[] data) {
+        try {
+            StringBuilder result = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-1").digest(data)) {
+                result.append(String.format("%02x", b));
+            }
+            return result.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Drops the loaded icons so they're revalidated with the packager
+     */
+    public static void onJsDevReload() {
+        ImageLoader.clearCache();
+    }
+
+    private static class Request {
+        final String key;
+        final int size;
+        final List<PlaceholderIconDrawable> targets = new ArrayList<>();
+        @Nullable Bitmap bitmap;
+
+        Request(String key, int size) {
+            this.key = key;
+            this.size = size;
+        }
     }
 }
@@ -16,6 +16,7 @@ import com.reactnativenavigation.bridge.NavigationReactEventEmitter;
 import com.reactnativenavigation.bridge.NavigationReactPackage;
 import com.reactnativenavigation.events.EventBus;
 import com.reactnativenavigation.events.JsDevReloadEvent;
+import com.reactnativenavigation.utils.NavigationMetrics;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -103,7 +104,9 @@ public class NavigationReactGateway implements ReactGateway {
 
     //TODO temp hack
     private void onReactContextInitialized() {
+        NavigationMetrics.instance.markColdStart(NavigationMetrics.Phase.ContextCreated);
         reactEventEmitter = new NavigationReactEventEmitter(getReactContext());
+        NavigationApplication.instance.getEventEmitter().onReactContextInitialized();
     }
 
     private static class ReactNativeHostImpl extends ReactNativeHost implements ReactInstanceManager.ReactInstanceEventListener {
@@ -156,7 +159,8 @@ public class NavigationReactGateway implements ReactGateway {
             new JsDevReloadListenerReplacer(manager, new JsDevReloadListenerReplacer.Listener() {
                 @Override
                 public void onJsDevReload() {
-                    EventBus.instance.post(new JsDevReloadEvent());
+                    JsDevImageLoader.onJsDevReload();
+                    EventBus.instance.postOnMain(new JsDevReloadEvent());
                 }
             }).replace();
         }
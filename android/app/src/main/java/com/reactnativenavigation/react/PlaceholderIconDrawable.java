@@ -0,0 +1,138 @@
+package com.reactnativenavigation.react;
+
+import android.content.res.ColorStateList;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.ColorFilter;
+import android.graphics.PixelFormat;
+import android.graphics.PorterDuff;
+import android.graphics.Rect;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.reactnativenavigation.NavigationApplication;
+
+/**
+ * An icon which is still being loaded. It draws nothing until {@link #setBitmap(Bitmap)} is called and then draws the
+ * bitmap centered inside its bounds. Its intrinsic size is fixed, so the views showing it don't need a new layout when
+ * the bitmap arrives. Alpha, color filter and tint applied before then are kept.
+ */
+class PlaceholderIconDrawable extends Drawable {
+    private final int size;
+    @Nullable private BitmapDrawable icon;
+    private int alpha = 255;
+    @Nullable private ColorFilter colorFilter;
+    @Nullable private ColorStateList tint;
+    @Nullable private PorterDuff.Mode tintMode;
+
+    PlaceholderIconDrawable(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Must be called on the main thread.
+     */
+    void setBitmap(Bitmap bitmap) {
+        icon = new BitmapDrawable(NavigationApplication.instance.getResources(), bitmap);
+        icon.setAlpha(alpha);
+        icon.setColorFilter(colorFilter);
+        if (tint != null) {
+            icon.setTintList(tint);
+        }
+        if (tintMode != null) {
+            icon.setTintMode(tintMode);
+        }
+        icon.setState(getState());
+        updateIconBounds(getBounds());
+        invalidateSelf();
+    }
+
+    @Override
+    public void draw(@NonNull Canvas canvas) {
+        if (icon != null) {
+            icon.draw(canvas);
+        }
+    }
+
+    @Override
+    protected void onBoundsChange(Rect bounds) {
+        updateIconBounds(bounds);
+    }
+
+    private void updateIconBounds(Rect bounds) {
+        if (icon == null) {
+            return;
+        }
+        int width = icon.getIntrinsicWidth();
+        int height = icon.getIntrinsicHeight();
+        if (width <= 0 || height <= 0) {
+            icon.setBounds(bounds);
+            return;
+        }
+        float scale = Math.min((float) bounds.width() / width, (float) bounds.height() / height);
+        int scaledWidth = Math.round(width * scale);
+        int scaledHeight = Math.round(height * scale);
+        int left = bounds.left + (bounds.width() - scaledWidth) / 2;
+        int top = bounds.top + (bounds.height() - scaledHeight) / 2;
+        icon.setBounds(left, top, left + scaledWidth, top + scaledHeight);
+    }
+
+    @Override
+    public int getIntrinsicWidth() {
+        return size;
+    }
+
+    @Override
+    public int getIntrinsicHeight() {
+        return size;
+    }
+
+    @Override
+    public void setAlpha(int alpha) {
+        this.alpha = alpha;
+        if (icon != null) {
+            icon.setAlpha(alpha);
+        }
+    }
+
+    @Override
+    public void setColorFilter(@Nullable ColorFilter colorFilter) {
+        this.colorFilter = colorFilter;
+        if (icon != null) {
+            icon.setColorFilter(colorFilter);
+        }
+    }
+
+    @Override
+    public void setTintList(@Nullable ColorStateList tint) {
+        this.tint = tint;
+        if (icon != null) {
+            icon.setTintList(tint);
+        }
+    }
+
+    @Override
+    public void setTintMode(@NonNull PorterDuff.Mode tintMode) {
+        this.tintMode = tintMode;
+        if (icon != null) {
+            icon.setTintMode(tintMode);
+        }
+    }
+
+    @Override
+    public boolean isStateful() {
+        return tint != null && tint.isStateful();
+    }
+
+    @Override
+    protected boolean onStateChange(int[] state) {
+        return icon != null && icon.setState(state);
+    }
+
+    @Override
+    public int getOpacity() {
+        return PixelFormat.TRANSLUCENT;
+    }
+}
@@ -6,8 +6,9 @@ import android.net.Uri;
 
 import com.facebook.common.util.UriUtil;
 
-import java.util.HashMap;
+import java.lang.reflect.Field;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nullable;
 
@@ -21,7 +22,22 @@ public class ResourceDrawableIdHelper {
     private Map<String, Integer> mResourceDrawableIdMap;
 
     public ResourceDrawableIdHelper() {
-        mResourceDrawableIdMap = new HashMap<>();
+        mResourceDrawableIdMap = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Caches the ids of all the app's drawables at once, instead of looking each name up with getIdentifier
+     */
+    public void preloadResourceDrawableIds(Context context) {
+        try {
+            for (Field field : Class.forName(context.getPackageName() + ".R$drawable").getFields()) {
+                if (field.getType() == int.class) {
+                    mResourceDrawableIdMap.put(field.getName(), field.getInt(null));
+                }
+            }
+        } catch (ClassNotFoundException | IllegalAccessException e) {
+            // getResourceDrawableId looks the names up one by one
+        }
     }
 
     public int getResourceDrawableId(Context context, @Nullable String name) {
@@ -29,8 +45,9 @@ public class ResourceDrawableIdHelper {
             return 0;
         }
         name = name.toLowerCase().replace("-", "_");
-        if (mResourceDrawableIdMap.containsKey(name)) {
-            return mResourceDrawableIdMap.get(name);
+        Integer cached = mResourceDrawableIdMap.get(name);
+        if (cached != null) {
+            return cached;
         }
         int id = context.getResources().getIdentifier(
                 name,
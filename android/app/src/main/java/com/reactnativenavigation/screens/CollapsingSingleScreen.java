@@ -32,6 +32,12 @@ public class CollapsingSingleScreen extends SingleScreen {
         ((CollapsingContentView) contentView).destroy();
     }
 
+    @Override
+    protected void hibernateContent() {
+        super.hibernateContent();
+        ((CollapsingContentView) contentView).destroy();
+    }
+
     @Override
     protected TopBar createTopBar() {
         final CollapsingTopBar topBar = new CollapsingTopBar(getContext(), styleParams);
@@ -9,6 +9,7 @@ import android.widget.ScrollView;
 
 import com.facebook.react.uimanager.RootViewUtil;
 import com.reactnativenavigation.events.Event;
+import com.reactnativenavigation.events.EventBus;
 import com.reactnativenavigation.events.ViewPagerScreenChangedEvent;
 import com.reactnativenavigation.events.ViewPagerScreenScrollStartEvent;
 import com.reactnativenavigation.params.PageParams;
@@ -34,6 +35,7 @@ import com.reactnativenavigation.views.collapsingToolbar.behaviours.CollapseBeha
 public class CollapsingViewPagerScreen extends ViewPagerScreen {
     public CollapsingViewPagerScreen(AppCompatActivity activity, ScreenParams screenParams, LeftButtonOnClickListener backButtonListener, MenuButtonOnClickListener rightButtonsClickListener) {
         super(activity, screenParams, backButtonListener, rightButtonsClickListener);
+        EventBus.instance.register(this, ViewPagerScreenScrollStartEvent.TYPE);
     }
 
     @Override
@@ -104,18 +106,22 @@ public class CollapsingViewPagerScreen extends ViewPagerScreen {
         }
     }
 
+    @Override
+    protected void destroyContentView(ContentView contentView) {
+        super.destroyContentView(contentView);
+        ((CollapsingContentView) contentView).destroy();
+    }
+
     @Override
     public void destroy() {
         super.destroy();
-        for (ContentView contentView : contentViews) {
-            if (contentView instanceof CollapsingContentView) {
-                ((CollapsingContentView) contentView).destroy();
-            }
+        for (ContentView contentView : getMountedPages()) {
+            ((CollapsingContentView) contentView).destroy();
         }
         topBar.destroy();
     }
 
     protected ContentView getCurrentPage() {
-        return (ContentView) viewPager.getChildAt(viewPager.getCurrentItem());
+        return getContentView();
     }
 }
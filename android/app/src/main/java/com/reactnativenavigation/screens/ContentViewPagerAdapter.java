@@ -18,23 +18,38 @@ import com.reactnativenavigation.views.ContentView;
 import java.util.List;
 
 class ContentViewPagerAdapter extends PagerAdapter implements ViewPager.OnPageChangeListener {
-    private List<ContentView> contentViews;
+    private ViewPagerScreen screen;
     private List<PageParams> pageParams;
     private int currentPosition = 0;
 
-    ContentViewPagerAdapter(List<ContentView> contentViews, List<PageParams> pageParams) {
-        this.contentViews = contentViews;
+    ContentViewPagerAdapter(ViewPagerScreen screen, List<PageParams> pageParams) {
+        this.screen = screen;
         this.pageParams = pageParams;
     }
 
     @Override
     public Object instantiateItem(ViewGroup container, int position) {
-        return contentViews.get(position);
+        ContentView contentView = screen.getPage(position);
+        if (contentView.getParent() == null) {
+            container.addView(contentView);
+        }
+        return contentView;
+    }
+
+    @Override
+    public void destroyItem(ViewGroup container, int position, Object object) {
+        container.removeView((View) object);
+        screen.destroyPage(position);
+    }
+
+    @Override
+    public int getItemPosition(Object object) {
+        return screen.isPageMounted(object) ? POSITION_UNCHANGED : POSITION_NONE;
     }
 
     @Override
     public int getCount() {
-        return contentViews.size();
+        return pageParams.size();
     }
 
     @Override
@@ -68,8 +83,11 @@ class ContentViewPagerAdapter extends PagerAdapter implements ViewPager.OnPageCh
     }
 
     private void sendTabSelectedEventToJs() {
+        String navigatorEventId = pageParams.get(currentPosition).getNavigatorEventId();
+        if (!NavigationApplication.instance.getEventEmitter().hasListener(navigatorEventId, "tabSelected")) {
+            return;
+        }
         WritableMap data = Arguments.createMap();
-        String navigatorEventId = contentViews.get(currentPosition).getNavigatorEventId();
         NavigationApplication.instance.getEventEmitter().sendNavigatorEvent("tabSelected", navigatorEventId, data);
     }
 }
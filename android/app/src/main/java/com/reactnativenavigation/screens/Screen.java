@@ -5,7 +5,11 @@ import android.app.Activity;
 import android.graphics.Color;
 import android.os.Build;
 import android.os.Bundle;
+import android.support.annotation.Nullable;
 import android.support.v7.app.AppCompatActivity;
+import android.util.Log;
+import android.view.LayoutInflater;
+import android.view.View;
 import android.view.Window;
 import android.widget.RelativeLayout;
 
@@ -37,6 +41,8 @@ import static android.view.ViewGroup.LayoutParams.MATCH_PARENT;
 import static android.view.ViewGroup.LayoutParams.WRAP_CONTENT;
 
 public abstract class Screen extends RelativeLayout implements Subscriber {
+    private static final String TAG = "Screen";
+    private static final int CONTENT_FADE_DURATION = 150;
 
     public interface OnDisplayListener {
         void onDisplay();
@@ -50,6 +56,8 @@ public abstract class Screen extends RelativeLayout implements Subscriber {
     private ScreenAnimator screenAnimator;
     protected StyleParams styleParams;
     public final SharedElements sharedElements;
+    private boolean hibernating;
+    @Nullable private View contentPlaceholder;
 
     public Screen(AppCompatActivity activity, ScreenParams screenParams, LeftButtonOnClickListener leftButtonOnClickListener, MenuButtonOnClickListener rightButtonsClickListener) {
         super(activity);
@@ -60,7 +68,7 @@ public abstract class Screen extends RelativeLayout implements Subscriber {
         this.rightButtonsClickListener = rightButtonsClickListener;
         screenAnimator = new ScreenAnimator(this);
         createViews();
-        EventBus.instance.register(this);
+        EventBus.instance.register(this, ViewPagerScreenChangedEvent.TYPE);
         sharedElements = new SharedElements();
     }
 
@@ -85,8 +93,7 @@ public abstract class Screen extends RelativeLayout implements Subscriber {
     }
 
     private void updateStyle(Bundle styleParams) {
-        screenParams.styleParams = new StyleParamsParser(screenParams.styleParams.params).merge(styleParams).parse();
-        this.styleParams = screenParams.styleParams;
+        setStyleParams(new StyleParamsParser(screenParams.styleParams.toBundle()).merge(styleParams).parse());
         topBar.setButtonColor(this.styleParams);
     }
 
@@ -172,6 +179,88 @@ public abstract class Screen extends RelativeLayout implements Subscriber {
 
     public abstract void unmountReactView();
 
+    /**
+     * Unmounts the screen's React views to free their memory while the screen is hidden deep in its stack.
+     * The screen keeps its params and is mounted again by {@link #wakeUp()}.
+     */
+    public void hibernate() {
+        if (!hibernating) {
+            hibernating = true;
+            hibernateContent();
+        }
+    }
+
+    public void wakeUp() {
+        if (hibernating) {
+            hibernating = false;
+            wakeUpContent();
+        }
+    }
+
+    public boolean isHibernating() {
+        return hibernating;
+    }
+
+    protected void hibernateContent() {
+
+    }
+
+    protected void wakeUpContent() {
+
+    }
+
+    /**
+     * Hides the React content, which hasn't drawn yet, behind the placeholder layout from the style or the screen's
+     * background, so the screen can be shown with only its top bar. Undone by {@link #revealContent()}.
+     */
+    public void showContentPlaceholder() {
+        ContentView contentView = getContentView();
+        if (contentView != null) {
+            contentView.setAlpha(0);
+        }
+        contentPlaceholder = inflateContentPlaceholder();
+        if (contentPlaceholder != null) {
+            LayoutParams params = new LayoutParams(MATCH_PARENT, MATCH_PARENT);
+            if (styleParams.drawScreenBelowTopBar) {
+                params.addRule(BELOW, topBar.getId());
+            }
+            addView(contentPlaceholder, indexOfChild(topBar), params);
+        }
+    }
+
+    /**
+     * Cross-fades from the placeholder to the React content once it has drawn.
+     */
+    public void revealContent() {
+        ContentView contentView = getContentView();
+        if (contentView != null) {
+            contentView.animate().alpha(1).setDuration(CONTENT_FADE_DURATION);
+        }
+        final View placeholder = contentPlaceholder;
+        contentPlaceholder = null;
+        if (placeholder != null) {
+            placeholder.animate().alpha(0).setDuration(CONTENT_FADE_DURATION).withEndAction(new Runnable() {
+                @Override
+                public void run() {
+                    removeView(placeholder);
+                }
+            });
+        }
+    }
+
+    @Nullable
+    private View inflateContentPlaceholder() {
+        if (styleParams.screenPlaceholderLayout == null) {
+            return null;
+        }
+        int layout = getResources().getIdentifier(styleParams.screenPlaceholderLayout, "layout", getContext().getPackageName());
+        if (layout == 0) {
+            Log.w(TAG, "Placeholder layout " + styleParams.screenPlaceholderLayout + " not found");
+            return null;
+        }
+        return LayoutInflater.from(getContext()).inflate(layout, this, false);
+    }
+
     public String getScreenInstanceId() {
         return screenParams.getScreenInstanceId();
     }
@@ -187,7 +276,9 @@ public abstract class Screen extends RelativeLayout implements Subscriber {
     }
 
     public void setTopBarVisible(boolean visible, boolean animate) {
-        screenParams.styleParams.titleBarHidden = !visible;
+        StyleParams styleParams = screenParams.styleParams.copy();
+        styleParams.titleBarHidden = !visible;
+        setStyleParams(styleParams);
         topBar.setVisible(visible, animate);
     }
 
@@ -216,7 +307,7 @@ public abstract class Screen extends RelativeLayout implements Subscriber {
     public void setFab(FabParams fabParams) {
         screenParams.fabParams = fabParams;
         if (isShown()) {
-            EventBus.instance.post(new FabSetEvent(fabParams));
+            EventBus.instance.postOnMain(new FabSetEvent(fabParams));
         }
     }
 
@@ -224,6 +315,11 @@ public abstract class Screen extends RelativeLayout implements Subscriber {
         return screenParams.styleParams;
     }
 
+    public void setStyleParams(StyleParams styleParams) {
+        screenParams.styleParams = styleParams;
+        this.styleParams = styleParams;
+    }
+
     private void setButtonColorFromScreen(List<TitleBarButtonParams> titleBarButtonParams) {
         if (titleBarButtonParams == null) {
             return;
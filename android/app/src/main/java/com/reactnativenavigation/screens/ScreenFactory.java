@@ -3,6 +3,7 @@ package com.reactnativenavigation.screens;
 import android.support.v7.app.AppCompatActivity;
 
 import com.reactnativenavigation.params.ScreenParams;
+import com.reactnativenavigation.utils.NavigationMetrics;
 import com.reactnativenavigation.views.LeftButtonOnClickListener;
 import com.reactnativenavigation.views.MenuButtonOnClickListener;
 
@@ -11,6 +12,15 @@ class ScreenFactory {
                          ScreenParams screenParams,
                          LeftButtonOnClickListener leftButtonOnClickListener,
 						 MenuButtonOnClickListener rightButtonsClickListener) {
+        Screen screen = createScreen(activity, screenParams, leftButtonOnClickListener, rightButtonsClickListener);
+        NavigationMetrics.instance.mark(screenParams.getScreenInstanceId(), NavigationMetrics.Phase.ScreenCreate);
+        return screen;
+    }
+
+    private static Screen createScreen(AppCompatActivity activity,
+                                       ScreenParams screenParams,
+                                       LeftButtonOnClickListener leftButtonOnClickListener,
+                                       MenuButtonOnClickListener rightButtonsClickListener) {
         if (screenParams.isFragmentScreen()) {
             return new FragmentScreen(activity, screenParams, leftButtonOnClickListener, rightButtonsClickListener);
         } else if (screenParams.hasTopTabs()) {
@@ -9,12 +9,17 @@ import android.widget.RelativeLayout;
 import android.widget.RelativeLayout.LayoutParams;
 
 import com.reactnativenavigation.NavigationApplication;
+import com.reactnativenavigation.events.Event;
+import com.reactnativenavigation.events.EventBus;
+import com.reactnativenavigation.events.Subscriber;
+import com.reactnativenavigation.events.TrimMemoryEvent;
 import com.reactnativenavigation.params.FabParams;
 import com.reactnativenavigation.params.ScreenParams;
 import com.reactnativenavigation.params.StyleParams;
 import com.reactnativenavigation.params.TitleBarButtonParams;
 import com.reactnativenavigation.params.TitleBarLeftButtonParams;
 import com.reactnativenavigation.utils.KeyboardVisibilityDetector;
+import com.reactnativenavigation.utils.NavigationMetrics;
 import com.reactnativenavigation.utils.Task;
 import com.reactnativenavigation.views.LeftButtonOnClickListener;
 import com.reactnativenavigation.views.MenuButtonOnClickListener;
@@ -22,8 +27,12 @@ import com.reactnativenavigation.views.MenuButtonOnClickListener;
 import java.util.List;
 import java.util.Stack;
 
-public class ScreenStack {
+public class ScreenStack implements Subscriber {
     private static final String TAG = "ScreenStack";
+    /**
+     * The screen directly below the top, which a back press reveals, is never hibernated
+     */
+    private static final int MIN_HIBERNATION_DEPTH = 1;
 
     public interface OnScreenPop {
         void onScreenPopAnimationEnd();
@@ -54,9 +63,66 @@ public class ScreenStack {
         this.leftButtonOnClickListener = leftButtonOnClickListener;
 		this.rightButtonsClickListener = rightButtonsClickListener;
         keyboardVisibilityDetector = new KeyboardVisibilityDetector(parent);
+        EventBus.instance.register(this, TrimMemoryEvent.TYPE);
+    }
+
+    @Override
+    public void onEvent(Event event) {
+        if (TrimMemoryEvent.TYPE.equals(event.getType())) {
+            hibernateScreensBelowTop(MIN_HIBERNATION_DEPTH);
+        }
+    }
+
+    /**
+     * Hibernates the screens more than depth screens below the top of the stack, keeping at least
+     * {@link #MIN_HIBERNATION_DEPTH} screens below it mounted. Screens which are still attached,
+     * such as a previous screen during a push animation, are left mounted.
+     */
+    public void hibernateScreensBelowTop(int depth) {
+        for (int i = stack.size() - 2 - Math.max(depth, MIN_HIBERNATION_DEPTH); i >= 0; i--) {
+            Screen screen = stack.get(i);
+            if (screen.getParent() == null) {
+                screen.hibernate();
+            }
+        }
+    }
+
+    private void hibernateDeepScreens() {
+        int depth = NavigationApplication.instance.getScreenHibernationDepth();
+        if (depth >= 0) {
+            hibernateScreensBelowTop(depth);
+        }
+    }
+
+    /**
+     * Wakes the hibernating screens which are back within the hibernation depth after a pop, so they render before
+     * a later pop reveals them. Screens which aren't attached are laid out at the stack's size, since their React view
+     * only renders once it's measured.
+     */
+    private void wakeUpScreensWithinDepth() {
+        int depth = Math.max(NavigationApplication.instance.getScreenHibernationDepth(), MIN_HIBERNATION_DEPTH);
+        for (int i = Math.max(0, stack.size() - 1 - depth); i < stack.size(); i++) {
+            Screen screen = stack.get(i);
+            if (screen.isHibernating()) {
+                screen.wakeUp();
+                layoutOffWindow(screen);
+            }
+        }
+    }
+
+    private void layoutOffWindow(Screen screen) {
+        int width = parent.getWidth();
+        int height = parent.getHeight();
+        if (screen.getParent() != null || width == 0 || height == 0) {
+            return;
+        }
+        screen.measure(View.MeasureSpec.makeMeasureSpec(width, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(height, View.MeasureSpec.EXACTLY));
+        screen.layout(0, 0, width, height);
     }
 
     public void newStack(final ScreenParams params, LayoutParams layoutParams) {
+        final ScreenTransition transition = ScreenTransition.claim(this);
         final Screen nextScreen = ScreenFactory.create(activity, params, leftButtonOnClickListener, rightButtonsClickListener);
         final Screen previousScreen = stack.peek();
         if (isStackVisible) {
@@ -65,10 +131,11 @@ public class ScreenStack {
                 public void onDisplay() {
                     removeElementsBelowTop();
                 }
-            });
+            }, transition);
         } else {
             pushScreenToInvisibleStack(layoutParams, nextScreen, previousScreen);
             removeElementsBelowTop();
+            ScreenTransition.onEnd(transition);
         }
     }
 
@@ -82,14 +149,23 @@ public class ScreenStack {
     }
 
     public void pushInitialScreenWithAnimation(final ScreenParams initialScreenParams, LayoutParams params) {
+        final ScreenTransition transition = ScreenTransition.claim(this);
         isStackVisible = true;
         pushInitialScreen(initialScreenParams, params);
         final Screen screen = stack.peek();
         screen.setOnDisplayListener(new Screen.OnDisplayListener() {
             @Override
             public void onDisplay() {
-                screen.show(initialScreenParams.animateScreenTransitions);
-                screen.setStyle();
+                NavigationMetrics.instance.mark(screen.getScreenInstanceId(), NavigationMetrics.Phase.FirstDraw);
+                NavigationMetrics.instance.markColdStart(NavigationMetrics.Phase.FirstDraw);
+                ScreenTransition.onDisplay(transition);
+                screen.show(initialScreenParams.animateScreenTransitions, new Runnable() {
+                    @Override
+                    public void run() {
+                        NavigationMetrics.instance.mark(screen.getScreenInstanceId(), NavigationMetrics.Phase.AnimationEnd);
+                        ScreenTransition.onEnd(transition);
+                    }
+                });
             }
         });
     }
@@ -101,6 +177,7 @@ public class ScreenStack {
             @Override
             public void onDisplay() {
                 if (isStackVisible) {
+                    NavigationMetrics.instance.markColdStart(NavigationMetrics.Phase.FirstDraw);
                     NavigationApplication.instance.getEventEmitter().sendScreenChangedEvent("willAppear", stack.peek().getNavigatorEventId());
                     NavigationApplication.instance.getEventEmitter().sendScreenChangedEvent("didAppear", stack.peek().getNavigatorEventId());
                 }
@@ -110,55 +187,116 @@ public class ScreenStack {
     }
 
     public void push(final ScreenParams params, LayoutParams layoutParams) {
+        ScreenTransition transition = ScreenTransition.claim(this);
         Screen nextScreen = ScreenFactory.create(activity, params, leftButtonOnClickListener, rightButtonsClickListener);
         final Screen previousScreen = stack.peek();
         if (isStackVisible) {
             if (nextScreen.screenParams.sharedElementsTransitions.isEmpty()) {
-                pushScreenToVisibleStack(layoutParams, nextScreen, previousScreen);
+                pushScreenToVisibleStack(layoutParams, nextScreen, previousScreen, null, transition);
             } else {
-                pushScreenToVisibleStackWithSharedElementTransition(layoutParams, nextScreen, previousScreen);
+                pushScreenToVisibleStackWithSharedElementTransition(layoutParams, nextScreen, previousScreen, transition);
             }
         } else {
             pushScreenToInvisibleStack(layoutParams, nextScreen, previousScreen);
+            ScreenTransition.onEnd(transition);
         }
     }
 
-    private void pushScreenToVisibleStack(LayoutParams layoutParams, final Screen nextScreen,
-                                          final Screen previousScreen) {
-        pushScreenToVisibleStack(layoutParams, nextScreen, previousScreen, null);
-    }
-
     private void pushScreenToVisibleStack(LayoutParams layoutParams,
                                           final Screen nextScreen,
                                           final Screen previousScreen,
-                                          @Nullable final Screen.OnDisplayListener onDisplay) {
+                                          @Nullable final Screen.OnDisplayListener onDisplay,
+                                          @Nullable final ScreenTransition transition) {
         nextScreen.setVisibility(View.INVISIBLE);
         addScreen(nextScreen, layoutParams);
         NavigationApplication.instance.getEventEmitter().sendScreenChangedEvent("willDisappear", previousScreen.getNavigatorEventId());
-        nextScreen.setOnDisplayListener(new Screen.OnDisplayListener() {
+        final Runnable showScreen = new Runnable() {
             @Override
-            public void onDisplay() {
+            public void run() {
+                ScreenTransition.onDisplay(transition);
                 nextScreen.show(nextScreen.screenParams.animateScreenTransitions, new Runnable() {
                     @Override
                     public void run() {
+                        NavigationMetrics.instance.mark(nextScreen.getScreenInstanceId(), NavigationMetrics.Phase.AnimationEnd);
                         if (onDisplay != null) onDisplay.onDisplay();
                         NavigationApplication.instance.getEventEmitter().sendScreenChangedEvent("didDisappear", previousScreen.getNavigatorEventId());
                         parent.removeView(previousScreen);
+                        hibernateDeepScreens();
+                        ScreenTransition.onEnd(transition);
                     }
                 });
             }
+        };
+        final RenderDeadline deadline = startRenderDeadline(nextScreen, showScreen);
+        nextScreen.setOnDisplayListener(new Screen.OnDisplayListener() {
+            @Override
+            public void onDisplay() {
+                NavigationMetrics.instance.mark(nextScreen.getScreenInstanceId(), NavigationMetrics.Phase.FirstDraw);
+                if (deadline != null) {
+                    nextScreen.removeCallbacks(deadline);
+                    if (deadline.passed) {
+                        nextScreen.revealContent();
+                        return;
+                    }
+                }
+                showScreen.run();
+            }
         });
     }
 
-    private void pushScreenToVisibleStackWithSharedElementTransition(LayoutParams layoutParams, final Screen nextScreen, final Screen previousScreen) {
+    /**
+     * When the screen's style sets screenRenderDeadline, shows the screen with a placeholder if its React content
+     * hasn't drawn by then, instead of waiting for it.
+     */
+    @Nullable
+    private RenderDeadline startRenderDeadline(Screen screen, Runnable showScreen) {
+        int deadlineMs = screen.getStyleParams().screenRenderDeadline;
+        if (deadlineMs < 0) {
+            return null;
+        }
+        RenderDeadline deadline = new RenderDeadline(screen, showScreen);
+        screen.postDelayed(deadline, deadlineMs);
+        return deadline;
+    }
+
+    private class RenderDeadline implements Runnable {
+        private final Screen screen;
+        private final Runnable showScreen;
+        boolean passed;
+
+        RenderDeadline(Screen screen, Runnable showScreen) {
+            this.screen = screen;
+            this.showScreen = showScreen;
+        }
+
+        @Override
+        public void run() {
+            if (stack.isEmpty() || stack.peek() != screen) {
+                return;
+            }
+            passed = true;
+            screen.showContentPlaceholder();
+            showScreen.run();
+        }
+    }
+
+    private void pushScreenToVisibleStackWithSharedElementTransition(LayoutParams layoutParams,
+                                                                     final Screen nextScreen,
+                                                                     final Screen previousScreen,
+                                                                     @Nullable final ScreenTransition transition) {
         nextScreen.setVisibility(View.INVISIBLE);
         nextScreen.setOnDisplayListener(new Screen.OnDisplayListener() {
             @Override
             public void onDisplay() {
+                NavigationMetrics.instance.mark(nextScreen.getScreenInstanceId(), NavigationMetrics.Phase.FirstDraw);
+                ScreenTransition.onDisplay(transition);
                 nextScreen.showWithSharedElementsTransitions(previousScreen.sharedElements.getToElements(), new Runnable() {
                     @Override
                     public void run() {
+                        NavigationMetrics.instance.mark(nextScreen.getScreenInstanceId(), NavigationMetrics.Phase.AnimationEnd);
                         parent.removeView(previousScreen);
+                        hibernateDeepScreens();
+                        ScreenTransition.onEnd(transition);
                     }
                 });
             }
@@ -170,6 +308,7 @@ public class ScreenStack {
         nextScreen.setVisibility(View.INVISIBLE);
         addScreen(nextScreen, layoutParams);
         parent.removeView(previousScreen);
+        hibernateDeepScreens();
     }
 
     private void addScreen(Screen screen, LayoutParams layoutParams) {
@@ -182,7 +321,9 @@ public class ScreenStack {
     }
 
     public void pop(final boolean animated, @Nullable final OnScreenPop onScreenPop) {
+        final ScreenTransition transition = ScreenTransition.claim(this);
         if (!canPop()) {
+            ScreenTransition.onEnd(transition);
             return;
         }
         if (keyboardVisibilityDetector.isKeyboardVisible()) {
@@ -190,36 +331,39 @@ public class ScreenStack {
                 @Override
                 public void run() {
                     keyboardVisibilityDetector.setKeyboardCloseListener(null);
-                    popInternal(animated, onScreenPop);
+                    popInternal(animated, onScreenPop, transition);
                 }
             });
             keyboardVisibilityDetector.closeKeyboard();
         } else {
-            popInternal(animated, onScreenPop);
+            popInternal(animated, onScreenPop, transition);
         }
     }
 
-    private void popInternal(final boolean animated, @Nullable final OnScreenPop onScreenPop) {
+    private void popInternal(final boolean animated, @Nullable final OnScreenPop onScreenPop, @Nullable ScreenTransition transition) {
         final Screen toRemove = stack.pop();
         final Screen previous = stack.peek();
-        swapScreens(animated, toRemove, previous, onScreenPop);
+        wakeUpScreensWithinDepth();
+        swapScreens(animated, toRemove, previous, onScreenPop, transition);
     }
 
-    private void swapScreens(boolean animated, final Screen toRemove, Screen previous, OnScreenPop onScreenPop) {
+    private void swapScreens(boolean animated, final Screen toRemove, Screen previous, OnScreenPop onScreenPop, @Nullable ScreenTransition transition) {
         readdPrevious(previous);
         previous.setStyle();
-        hideScreen(animated, toRemove, previous);
+        ScreenTransition.onDisplay(transition);
+        hideScreen(animated, toRemove, previous, transition);
         if (onScreenPop != null) {
             onScreenPop.onScreenPopAnimationEnd();
         }
     }
 
-    private void hideScreen(boolean animated, final Screen toRemove, Screen previous) {
+    private void hideScreen(boolean animated, final Screen toRemove, Screen previous, @Nullable final ScreenTransition transition) {
         Runnable onAnimationEnd = new Runnable() {
             @Override
             public void run() {
                 toRemove.destroy();
                 parent.removeView(toRemove);
+                ScreenTransition.onEnd(transition);
             }
         };
         if (animated) {
@@ -249,31 +393,46 @@ public class ScreenStack {
     }
 
     public void popToRoot(final boolean animated, @Nullable final OnScreenPop onScreenPop) {
+        final ScreenTransition transition = ScreenTransition.claim(this);
         if (keyboardVisibilityDetector.isKeyboardVisible()) {
             keyboardVisibilityDetector.setKeyboardCloseListener(new Runnable() {
                 @Override
                 public void run() {
                     keyboardVisibilityDetector.setKeyboardCloseListener(null);
-                    popToRootInternal(animated, onScreenPop);
+                    popToRootInternal(animated, onScreenPop, transition);
                 }
             });
             keyboardVisibilityDetector.closeKeyboard();
         } else {
-            popToRootInternal(animated, onScreenPop);
+            popToRootInternal(animated, onScreenPop, transition);
         }
     }
 
-    private void popToRootInternal(final boolean animated, @Nullable final OnScreenPop onScreenPop) {
-        while (canPop()) {
-            if (stack.size() == 2) {
-                popInternal(animated, onScreenPop);
-            } else {
-                popInternal(animated, null);
-            }
+    private void popToRootInternal(final boolean animated, @Nullable final OnScreenPop onScreenPop, @Nullable ScreenTransition transition) {
+        if (!canPop()) {
+            ScreenTransition.onEnd(transition);
+            return;
+        }
+        destroyScreensBetweenTopAndRoot();
+        popInternal(animated, onScreenPop, transition);
+    }
+
+    /**
+     * The screens between the top and the root are never shown again, so they're destroyed without being woken up
+     */
+    private void destroyScreensBetweenTopAndRoot() {
+        Screen top = stack.pop();
+        while (stack.size() > 1) {
+            Screen screen = stack.pop();
+            screen.destroy();
+            parent.removeView(screen);
         }
+        stack.push(top);
     }
 
     public void destroy() {
+        EventBus.instance.unregister(this);
+        ScreenTransition.cancel(this);
         for (Screen screen : stack) {
             screen.destroy();
             parent.removeView(screen);
@@ -352,9 +511,11 @@ public class ScreenStack {
 	{
 		this.disableBackNavigation = disableBackNavigation;
 
-		StyleParams params = stack.peek().getStyleParams();
+		Screen screen = stack.peek();
+		StyleParams params = screen.getStyleParams().copy();
 		params.backButtonHidden = disableBackNavigation;
-		stack.peek().getTopBar().setStyle(params);
+		screen.setStyleParams(params);
+		screen.getTopBar().setStyle(params);
 	}
 
 	public boolean getDisableBackNavigation()
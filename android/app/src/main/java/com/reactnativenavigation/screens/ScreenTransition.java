@@ -0,0 +1,128 @@
+package com.reactnativenavigation.screens;
+
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tells a navigation command when the screen transition it started has ended.
+ * <p>
+ * The command is applied through {@link #run(Listener, Runnable)}, and the ScreenStack which starts a transition while
+ * it runs takes the transition with {@link #claim(Object)}. If no transition is started, for example when pushing to a
+ * hidden tab, the listener is called right away. Transitions whose owner is destroyed before they end are cancelled,
+ * and a command which throws ends its transition without calling the listener. Main thread only.
+ */
+public class ScreenTransition {
+    public interface Listener {
+        void onTransitionEnd(ScreenTransition transition);
+
+        void onTransitionCancelled(ScreenTransition transition);
+    }
+
+    private static ScreenTransition current;
+    private static final List<ScreenTransition> claimed = new ArrayList<>();
+
+    private final Listener listener;
+    private final long startNanos = System.nanoTime();
+    private long displayNanos;
+    private long endNanos;
+    @Nullable private Object owner;
+
+    private ScreenTransition(Listener listener) {
+        this.listener = listener;
+    }
+
+    public static void run(Listener listener, Runnable command) {
+        ScreenTransition transition = new ScreenTransition(listener);
+        ScreenTransition previous = current;
+        current = transition;
+        try {
+            command.run();
+        } catch (RuntimeException e) {
+            transition.finish();
+            throw e;
+        } finally {
+            current = previous;
+        }
+        if (transition.owner == null) {
+            transition.onEnd();
+        }
+    }
+
+    /**
+     * @param owner the object which ends the transition, see {@link #cancel(Object)}
+     */
+    @Nullable
+    static ScreenTransition claim(Object owner) {
+        ScreenTransition transition = current;
+        if (transition != null) {
+            transition.owner = owner;
+            claimed.add(transition);
+            current = null;
+        }
+        return transition;
+    }
+
+    /**
+     * Cancels the transitions claimed by the owner which haven't ended yet, called when the owner is destroyed
+     */
+    static void cancel(Object owner) {
+        for (ScreenTransition transition : new ArrayList<>(claimed)) {
+            if (transition.owner == owner && transition.finish()) {
+                transition.listener.onTransitionCancelled(transition);
+            }
+        }
+    }
+
+    static void onDisplay(@Nullable ScreenTransition transition) {
+        if (transition != null && transition.displayNanos == 0) {
+            transition.displayNanos = System.nanoTime();
+        }
+    }
+
+    static void onEnd(@Nullable ScreenTransition transition) {
+        if (transition != null) {
+            transition.onEnd();
+        }
+    }
+
+    private void onEnd() {
+        if (finish()) {
+            listener.onTransitionEnd(this);
+        }
+    }
+
+    /**
+     * @return false if the transition had already ended
+     */
+    private boolean finish() {
+        if (endNanos != 0) {
+            return false;
+        }
+        endNanos = System.nanoTime();
+        if (displayNanos == 0) {
+            displayNanos = endNanos;
+        }
+        claimed.remove(this);
+        return true;
+    }
+
+    /**
+     * @return milliseconds from applying the command until the screen was displayed
+     */
+    public double getDisplayTime() {
+        return (displayNanos - startNanos) / 1e6;
+    }
+
+    /**
+     * @return milliseconds from displaying the screen until its animation ended
+     */
+    public double getAnimationTime() {
+        return (endNanos - displayNanos) / 1e6;
+    }
+
+    public double getTotalTime() {
+        return (endNanos - startNanos) / 1e6;
+    }
+}
@@ -4,6 +4,7 @@ import android.support.v7.app.AppCompatActivity;
 
 import com.reactnativenavigation.params.ScreenParams;
 import com.reactnativenavigation.views.ContentView;
+import com.reactnativenavigation.views.ContentViewPrefetcher;
 import com.reactnativenavigation.views.LeftButtonOnClickListener;
 import com.reactnativenavigation.views.MenuButtonOnClickListener;
 
@@ -20,7 +21,10 @@ public class SingleScreen extends Screen {
 
     @Override
     protected void createContent() {
-        contentView = new ContentView(getContext(), screenParams.screenId, screenParams.navigationParams, screenParams.passProps);
+        contentView = ContentViewPrefetcher.instance.take(activity, screenParams.getScreenInstanceId());
+        if (contentView == null) {
+            contentView = new ContentView(getContext(), screenParams.screenId, screenParams.navigationParams, screenParams.passProps);
+        }
         addView(contentView, 0, createLayoutParams());
     }
 
@@ -42,6 +46,17 @@ public class SingleScreen extends Screen {
         contentView.unmountReactView();
     }
 
+    @Override
+    protected void hibernateContent() {
+        removeView(contentView);
+        contentView.unmountReactView();
+    }
+
+    @Override
+    protected void wakeUpContent() {
+        createContent();
+    }
+
     @Override
     public String getNavigatorEventId() {
         return screenParams.getNavigatorEventId();
@@ -16,15 +16,25 @@ import com.reactnativenavigation.views.MenuButtonOnClickListener;
 import com.reactnativenavigation.views.TopTabs;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static android.view.ViewGroup.LayoutParams.MATCH_PARENT;
 
+/**
+ * Shows each top tab in a page of a ViewPager. Pages are created when the ViewPager first needs them. If
+ * styleParams.topTabsOffscreenPageLimit is set, only the pages within that many pages of the selected page stay mounted,
+ * and the others are unmounted until they're needed again.
+ */
 public class ViewPagerScreen extends Screen {
 
     private static final int OFFSCREEN_PAGE_LIMIT = 99;
+    /**
+     * The page of each tab, null if the page isn't mounted
+     */
     protected List<ContentView> contentViews;
     protected ViewPager viewPager;
+    private TopTabs topTabs;
 
     public ViewPagerScreen(AppCompatActivity activity, ScreenParams screenParams, LeftButtonOnClickListener backButtonListener, MenuButtonOnClickListener rightButtonsClickListener) {
         super(activity, screenParams, backButtonListener, rightButtonsClickListener);
@@ -48,12 +58,12 @@ public class ViewPagerScreen extends Screen {
 
     @Override
     public ContentView getContentView() {
-        return contentViews.get(getCurrentItem());
+        return getPage(getCurrentItem());
     }
 
     @Override
     protected void createContent() {
-        TopTabs topTabs = topBar.initTabs();
+        topTabs = topBar.initTabs();
         createViewPager();
         addPages();
         setupViewPager(topTabs);
@@ -62,7 +72,7 @@ public class ViewPagerScreen extends Screen {
 
     private void createViewPager() {
         viewPager = createViewPager(getContext());
-        viewPager.setOffscreenPageLimit(OFFSCREEN_PAGE_LIMIT);
+        viewPager.setOffscreenPageLimit(getOffscreenPageLimit());
         LayoutParams lp = new LayoutParams(MATCH_PARENT, MATCH_PARENT);
         if (screenParams.styleParams.drawScreenBelowTopBar) {
             lp.addRule(BELOW, topBar.getId());
@@ -74,17 +84,62 @@ public class ViewPagerScreen extends Screen {
         return new ViewPager(context);
     }
 
+    private int getOffscreenPageLimit() {
+        int limit = screenParams.styleParams.topTabsOffscreenPageLimit;
+        return limit < 0 ? OFFSCREEN_PAGE_LIMIT : Math.max(1, limit);
+    }
+
     private void addPages() {
-        contentViews = new ArrayList<>();
-        for (PageParams tab : screenParams.topTabParams) {
-            addPage(tab);
+        contentViews = new ArrayList<>(Collections.<ContentView>nCopies(screenParams.topTabParams.size(), null));
+        getPage(0);
+    }
+
+    /**
+     * @return the page at the given position, created if it isn't mounted
+     */
+    ContentView getPage(int position) {
+        ContentView contentView = contentViews.get(position);
+        if (contentView == null) {
+            contentView = createContentView(screenParams.topTabParams.get(position));
+            contentViews.set(position, contentView);
+        }
+        return contentView;
+    }
+
+    /**
+     * Unmounts a page which left the offscreen page window. It's created again when it's needed.
+     */
+    void destroyPage(int position) {
+        ContentView contentView = contentViews.get(position);
+        if (contentView != null) {
+            contentViews.set(position, null);
+            destroyContentView(contentView);
+        }
+    }
+
+    protected void destroyContentView(ContentView contentView) {
+        contentView.unmountReactView();
+    }
+
+    boolean isPageMounted(Object page) {
+        return contentViews.contains(page);
+    }
+
+    @Override
+    protected void hibernateContent() {
+        for (int i = 0; i < contentViews.size(); i++) {
+            ContentView contentView = contentViews.get(i);
+            if (contentView != null) {
+                viewPager.removeView(contentView);
+                destroyPage(i);
+            }
         }
     }
 
-    private void addPage(PageParams tab) {
-        ContentView contentView = createContentView(tab);
-        addContent(contentView);
-        contentViews.add(contentView);
+    @Override
+    protected void wakeUpContent() {
+        viewPager.getAdapter().notifyDataSetChanged();
+        setTopTabIcons(topTabs);
     }
 
     protected ContentView createContentView(PageParams tab) {
@@ -92,7 +147,7 @@ public class ViewPagerScreen extends Screen {
     }
 
     private void setupViewPager(TabLayout tabLayout) {
-        ContentViewPagerAdapter adapter = new ContentViewPagerAdapter(contentViews, screenParams.topTabParams);
+        ContentViewPagerAdapter adapter = new ContentViewPagerAdapter(this, screenParams.topTabParams);
         viewPager.setAdapter(adapter);
         viewPager.addOnPageChangeListener(adapter);
         tabLayout.setupWithViewPager(viewPager);
@@ -108,21 +163,26 @@ public class ViewPagerScreen extends Screen {
         topTabs.setTopTabsIconColor(screenParams.styleParams);
     }
 
-    private void addContent(ContentView contentView) {
-        LayoutParams params = new LayoutParams(MATCH_PARENT, MATCH_PARENT);
-        viewPager.addView(contentView, params);
-    }
-
     @Override
     public void unmountReactView() {
-        for (ContentView contentView : contentViews) {
+        for (ContentView contentView : getMountedPages()) {
             contentView.unmountReactView();
         }
     }
 
+    protected List<ContentView> getMountedPages() {
+        List<ContentView> result = new ArrayList<>();
+        for (ContentView contentView : contentViews) {
+            if (contentView != null) {
+                result.add(contentView);
+            }
+        }
+        return result;
+    }
+
     @Override
     public void setOnDisplayListener(OnDisplayListener onContentViewDisplayedListener) {
-        contentViews.get(0).setOnDisplayListener(onContentViewDisplayedListener);
+        getPage(0).setOnDisplayListener(onContentViewDisplayedListener);
     }
 
     @Override
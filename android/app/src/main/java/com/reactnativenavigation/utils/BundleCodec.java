@@ -0,0 +1,210 @@
+package com.reactnativenavigation.utils;
+
+import android.os.Bundle;
+import android.os.Parcelable;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes params Bundles in a compact binary format, with keys in sorted order so equal Bundles are written the same.
+ * Supports the value types BundleConverter produces: booleans, ints, doubles, Strings, Bundles, lists of Bundles and
+ * arrays of doubles, Strings and booleans. Other values are skipped.
+ */
+public class BundleCodec {
+    private static final int VERSION = 1;
+
+    private static final byte BOOLEAN = 1;
+    private static final byte INT = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte STRING = 4;
+    private static final byte BUNDLE = 5;
+    private static final byte BUNDLE_LIST = 6;
+    private static final byte DOUBLE_ARRAY = 7;
+    private static final byte STRING_ARRAY = 8;
+    private static final byte BOOLEAN_ARRAY = 9;
+    private static final byte NULL = 10;
+
+    public static void write(DataOutputStream out, Bundle bundle) throws IOException {
+        write(out, bundle, Collections.<String>emptySet());
+    }
+
+    /**
+     * @param skippedKeys keys which aren't written, at any depth
+     */
+    public static void write(DataOutputStream out, Bundle bundle, Set<String> skippedKeys) throws IOException {
+        out.writeInt(VERSION);
+        writeBundle(out, bundle, skippedKeys);
+    }
+
+    /**
+     * @throws IOException if the data wasn't written by this version of the codec
+     */
+    public static Bundle read(DataInputStream in) throws IOException {
+        if (in.readInt() != VERSION) {
+            throw new IOException("Unsupported version");
+        }
+        return readBundle(in);
+    }
+
+    private static void writeBundle(DataOutputStream out, Bundle bundle, Set<String> skippedKeys) throws IOException {
+        List<String> keys = new ArrayList<>();
+        for (String key : bundle.keySet()) {
+            if (!skippedKeys.contains(key) && isSupported(bundle.get(key))) {
+                keys.add(key);
+            }
+        }
+        Collections.sort(keys);
+        out.writeInt(keys.size());
+        for (String key : keys) {
+            out.writeUTF(key);
+            writeValue(out, bundle.get(key), skippedKeys);
+        }
+    }
+
+    private static boolean isSupported(Object value) {
+        return value == null ||
+               value instanceof Boolean ||
+               value instanceof Integer ||
+               value instanceof Double ||
+               value instanceof String ||
+               value instanceof Bundle ||
+               value instanceof ArrayList ||
+               value instanceof double[] ||
+               value instanceof String[] ||
+               value instanceof boolean[];
+    }
+
+    private static void writeValue(DataOutputStream out, Object value, Set<String> skippedKeys) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            out.writeUTF((String) value);
+        } else if (value instanceof Bundle) {
+            out.writeByte(BUNDLE);
+            writeBundle(out, (Bundle) value, skippedKeys);
+        } else if (value instanceof ArrayList) {
+            out.writeByte(BUNDLE_LIST);
+            writeBundleList(out, (ArrayList<?>) value, skippedKeys);
+        } else if (value instanceof double[]) {
+            double[] array = (double[]) value;
+            out.writeByte(DOUBLE_ARRAY);
+            out.writeInt(array.length);
+            for (double element : array) {
+                out.writeDouble(element);
+            }
+        } else if (value instanceof String[]) {
+            String[] array = (String[]) value;
+            out.writeByte(STRING_ARRAY);
+            out.writeInt(array.length);
+            for (String element : array) {
+                out.writeUTF(element);
+            }
+        } else {
+            boolean[] array = (boolean[]) value;
+            out.writeByte(BOOLEAN_ARRAY);
+            out.writeInt(array.length);
+            for (boolean element : array) {
+                out.writeBoolean(element);
+            }
+        }
+    }
+
+    private static void writeBundleList(DataOutputStream out, ArrayList<?> list, Set<String> skippedKeys) throws IOException {
+        int size = 0;
+        for (Object element : list) {
+            if (element instanceof Bundle) {
+                size++;
+            }
+        }
+        out.writeInt(size);
+        for (Object element : list) {
+            if (element instanceof Bundle) {
+                writeBundle(out, (Bundle) element, skippedKeys);
+            }
+        }
+    }
+
+    private static Bundle readBundle(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        Bundle result = new Bundle();
+        for (int i = 0; i < size; i++) {
+            readValue(in, in.readUTF(), result);
+        }
+        return result;
+    }
+
+    private static void readValue(DataInputStream in, String key, Bundle result) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                result.putString(key, null);
+                break;
+            case BOOLEAN:
+                result.putBoolean(key, in.readBoolean());
+                break;
+            case INT:
+                result.putInt(key, in.readInt());
+                break;
+            case DOUBLE:
+                result.putDouble(key, in.readDouble());
+                break;
+            case STRING:
+                result.putString(key, in.readUTF());
+                break;
+            case BUNDLE:
+                result.putBundle(key, readBundle(in));
+                break;
+            case BUNDLE_LIST: {
+                int length = in.readInt();
+                ArrayList<Parcelable> list = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    list.add(readBundle(in));
+                }
+                result.putParcelableArrayList(key, list);
+                break;
+            }
+            case DOUBLE_ARRAY: {
+                double[] array = new double[in.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = in.readDouble();
+                }
+                result.putDoubleArray(key, array);
+                break;
+            }
+            case STRING_ARRAY: {
+                String[] array = new String[in.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = in.readUTF();
+                }
+                result.putStringArray(key, array);
+                break;
+            }
+            case BOOLEAN_ARRAY: {
+                boolean[] array = new boolean[in.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = in.readBoolean();
+                }
+                result.putBooleanArray(key, array);
+                break;
+            }
+            default:
+                throw new IOException("Unknown type " + type);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.reactnativenavigation.utils;
+
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records when each phase of a navigation command which creates a screen happened, from the moment the command was
+ * received from JS until the screen's transition ended. The last {@link #CAPACITY} commands are kept.
+ * <p>
+ * A trace is started when the command is received and is looked up by the new screen's instance id once its params
+ * are parsed.
+ * <p>
+ * Cold start is recorded as a "coldStart" trace, started in Application.onCreate and ended when the first screen is
+ * drawn.
+ */
+public enum NavigationMetrics {
+    instance;
+
+    public static final int CAPACITY = 64;
+
+    public enum Phase {
+        BridgeReceive("bridgeReceive"),
+        Parse("parse"),
+        Apply("apply"),
+        ScreenCreate("screenCreate"),
+        FirstDraw("firstDraw"),
+        AnimationEnd("animationEnd"),
+        AppCreate("appCreate"),
+        ContextCreated("contextCreated"),
+        StartAppReceived("startAppReceived");
+
+        public final String name;
+
+        Phase(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class Trace {
+        private final String command;
+        private final long timestamp;
+        private final long startNanos;
+        private final long[] phaseNanos = new long[Phase.values().length];
+        private String screenId;
+        private String screenInstanceId;
+
+        private Trace(String command) {
+            this(command, System.currentTimeMillis(), System.nanoTime());
+        }
+
+        private Trace(String command, long timestamp, long startNanos) {
+            this.command = command;
+            this.timestamp = timestamp;
+            this.startNanos = startNanos;
+        }
+
+        public String getCommand() {
+            return command;
+        }
+
+        /**
+         * @return wall clock time, in milliseconds, when the command was received or the app was created
+         */
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        @Nullable
+        public String getScreenId() {
+            return screenId;
+        }
+
+        @Nullable
+        public String getScreenInstanceId() {
+            return screenInstanceId;
+        }
+
+        public boolean hasPhase(Phase phase) {
+            return phaseNanos[phase.ordinal()] != 0;
+        }
+
+        /**
+         * @return milliseconds between the start of the trace and the given phase
+         */
+        public double getPhaseTime(Phase phase) {
+            return (phaseNanos[phase.ordinal()] - startNanos) / 1e6;
+        }
+
+        private Trace copy() {
+            Trace copy = new Trace(command, timestamp, startNanos);
+            System.arraycopy(phaseNanos, 0, copy.phaseNanos, 0, phaseNanos.length);
+            copy.screenId = screenId;
+            copy.screenInstanceId = screenInstanceId;
+            return copy;
+        }
+    }
+
+    private final Trace[] traces = new Trace[CAPACITY];
+    private final Map<String, Trace> tracesByScreenInstanceId = new HashMap<>();
+    private int next;
+    private Trace coldStart;
+
+    public synchronized Trace start(String command) {
+        Trace trace = add(new Trace(command));
+        trace.phaseNanos[Phase.BridgeReceive.ordinal()] = trace.startNanos;
+        return trace;
+    }
+
+    /**
+     * Starts the cold start trace. Called once, at the start of Application.onCreate.
+     */
+    public synchronized void startColdStart() {
+        coldStart = add(new Trace("coldStart"));
+    }
+
+    /**
+     * Marks a cold start phase the first time it happens. The trace ends when the first screen is drawn.
+     */
+    public synchronized void markColdStart(Phase phase) {
+        if (coldStart == null || coldStart.hasPhase(phase)) {
+            return;
+        }
+        coldStart.phaseNanos[phase.ordinal()] = System.nanoTime();
+        if (phase == Phase.FirstDraw) {
+            coldStart = null;
+        }
+    }
+
+    private Trace add(Trace trace) {
+        Trace evicted = traces[next];
+        if (evicted != null && evicted.screenInstanceId != null && tracesByScreenInstanceId.get(evicted.screenInstanceId) == evicted) {
+            tracesByScreenInstanceId.remove(evicted.screenInstanceId);
+        }
+        traces[next] = trace;
+        next = (next + 1) % CAPACITY;
+        return trace;
+    }
+
+    /**
+     * Marks the end of parsing and binds the trace to the screen it creates, so later phases can be marked by id
+     */
+    public synchronized void onParsed(Trace trace, String screenId, String screenInstanceId) {
+        trace.screenId = screenId;
+        trace.screenInstanceId = screenInstanceId;
+        trace.phaseNanos[Phase.Parse.ordinal()] = System.nanoTime();
+        if (screenInstanceId != null) {
+            tracesByScreenInstanceId.put(screenInstanceId, trace);
+        }
+    }
+
+    /**
+     * Marks the phase the first time it happens for the screen's pending trace. Ignored for untraced screens.
+     */
+    public synchronized void mark(String screenInstanceId, Phase phase) {
+        Trace trace = screenInstanceId == null ? null : tracesByScreenInstanceId.get(screenInstanceId);
+        if (trace == null || trace.hasPhase(phase)) {
+            return;
+        }
+        trace.phaseNanos[phase.ordinal()] = System.nanoTime();
+        if (phase == Phase.AnimationEnd) {
+            tracesByScreenInstanceId.remove(screenInstanceId);
+        }
+    }
+
+    /**
+     * @return copies of the recorded traces, oldest first
+     */
+    public synchronized List<Trace> getTraces() {
+        List<Trace> result = new ArrayList<>(CAPACITY);
+        for (int i = 0; i < CAPACITY; i++) {
+            Trace trace = traces[(next + i) % CAPACITY];
+            if (trace != null) {
+                result.add(trace.copy());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,91 @@
+package com.reactnativenavigation.utils;
+
+import android.content.res.ColorStateList;
+import android.graphics.PorterDuff;
+import android.graphics.PorterDuffColorFilter;
+import android.graphics.drawable.Drawable;
+import android.util.LongSparseArray;
+import android.util.LruCache;
+import android.util.SparseArray;
+
+import com.reactnativenavigation.NavigationApplication;
+
+/**
+ * Shares the color filters, color state lists and tinted icons used to color title bar buttons and tabs, which are
+ * colored again each time a screen's style is applied. Must be used on the main thread.
+ */
+public enum TintCache {
+    instance;
+
+    private static final int MAX_TINTED_DRAWABLES = 64;
+
+    private final SparseArray<PorterDuffColorFilter> colorFilters = new SparseArray<>();
+    private final LongSparseArray<ColorStateList> selectableColors = new LongSparseArray<>();
+    private final LruCache<String, Drawable.ConstantState> tintedDrawables = new LruCache<>(MAX_TINTED_DRAWABLES);
+
+    public PorterDuffColorFilter getColorFilter(int color) {
+        PorterDuffColorFilter filter = colorFilters.get(color);
+        if (filter == null) {
+            filter = new PorterDuffColorFilter(color, PorterDuff.Mode.SRC_IN);
+            colorFilters.put(color, filter);
+        }
+        return filter;
+    }
+
+    /**
+     * @return a list which is selectedColor when pressed or selected and unselectedColor otherwise
+     */
+    public ColorStateList getSelectableColorStateList(int selectedColor, int unselectedColor) {
+        long key = ((long) selectedColor << 32) | (unselectedColor & 0xffffffffL);
+        ColorStateList colors = selectableColors.get(key);
+        if (colors == null) {
+            colors = createSelectableColorStateList(selectedColor, unselectedColor);
+            selectableColors.put(key, colors);
+        }
+        return colors;
+    }
+
+    /**
+     * @param source the source the icon was loaded from, identifying it along with the color
+     * @return a copy of the icon tinted with the color, sharing its state with the copies returned before, or the icon
+     * itself, untinted, if it has no constant state to copy it from
+     */
+    public Drawable getTintedDrawable(String source, Drawable icon, int color) {
+        String key = source + "/" + color;
+        Drawable.ConstantState state = tintedDrawables.get(key);
+        if (state != null) {
+            return state.newDrawable(NavigationApplication.instance.getResources());
+        }
+        Drawable.ConstantState iconState = icon.getConstantState();
+        if (iconState == null) {
+            return icon;
+        }
+        Drawable tinted = iconState.newDrawable().mutate();
+        tinted.setTint(color);
+        state = tinted.getConstantState();
+        if (state != null) {
+            tintedDrawables.put(key, state);
+        }
+        return tinted;
+    }
+
+    private static ColorStateList createSelectableColorStateList(int selectedColor, int unselectedColor) {
+        int[][] states = new int[][] {
+                new int[]{android.R.attr.state_pressed},
+                new int[]{android.R.attr.state_selected},
+                new int[]{android.R.attr.state_enabled},
+                new int[]{android.R.attr.state_focused, android.R.attr.state_pressed},
+                new int[]{-android.R.attr.state_enabled},
+                new int[]{}
+        };
+        int[] colors = new int[]{
+                selectedColor,
+                selectedColor,
+                unselectedColor,
+                unselectedColor,
+                unselectedColor,
+                unselectedColor
+        };
+        return new ColorStateList(states, colors);
+    }
+}
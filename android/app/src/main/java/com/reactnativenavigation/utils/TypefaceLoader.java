@@ -22,18 +22,36 @@ public class TypefaceLoader {
         this.fontFamilyName = fontFamilyName;
     }
 
+    /**
+     * Loads every font in the assets/fonts folder, so screens don't load them on the main thread
+     */
+    public static void preloadAssetFonts() {
+        try {
+            for (String font : NavigationApplication.instance.getAssets().list("fonts")) {
+                int extension = font.lastIndexOf('.');
+                if (extension > 0) {
+                    new TypefaceLoader(font.substring(0, extension)).getTypeFace();
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
     public void load(@NonNull TextView view) {
         Typeface result = getTypeFace();
         view.setTypeface(result);
     }
 
     public Typeface getTypeFace() {
-        if (typefaceRegistry.containsKey(fontFamilyName)) {
-            return typefaceRegistry.get(fontFamilyName);
+        synchronized (typefaceRegistry) {
+            if (typefaceRegistry.containsKey(fontFamilyName)) {
+                return typefaceRegistry.get(fontFamilyName);
+            }
+            Typeface result = load(fontFamilyName);
+            typefaceRegistry.put(fontFamilyName, result);
+            return result;
         }
-        Typeface result = load(fontFamilyName);
-        typefaceRegistry.put(fontFamilyName, result);
-        return result;
     }
 
     private Typeface load(String fontFamilyName) {
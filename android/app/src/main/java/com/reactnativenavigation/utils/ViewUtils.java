@@ -2,8 +2,7 @@ package com.reactnativenavigation.utils;
 
 import android.content.Context;
 import android.content.res.Resources;
-import android.graphics.PorterDuff;
-import android.graphics.PorterDuffColorFilter;
+import android.graphics.ColorFilter;
 import android.graphics.drawable.Drawable;
 import android.os.Build;
 import android.support.annotation.Nullable;
@@ -45,9 +44,14 @@ public class ViewUtils {
     }
 
     public static void tintDrawable(Drawable drawable, int tint, boolean enabled) {
-        drawable.setColorFilter(new PorterDuffColorFilter(enabled ? tint :
-                AppStyle.appStyle.titleBarDisabledButtonColor.getColor(),
-                PorterDuff.Mode.SRC_IN));
+        ColorFilter filter = TintCache.instance.getColorFilter(getTintColor(tint, enabled));
+        if (drawable.getColorFilter() != filter) {
+            drawable.setColorFilter(filter);
+        }
+    }
+
+    public static int getTintColor(int tint, boolean enabled) {
+        return enabled ? tint : AppStyle.appStyle.titleBarDisabledButtonColor.getColor();
     }
 
     public static float convertDpToPixel(float dp) {
@@ -24,6 +24,9 @@ public class ContentView extends ReactRootView {
 
     public void setOnDisplayListener(SingleScreen.OnDisplayListener onDisplayListener) {
         this.onDisplayListener = onDisplayListener;
+        if (getChildCount() > 0) {
+            detectContentViewVisible(getChildAt(0));
+        }
     }
 
     public ContentView(Context context, String screenId, NavigationParams navigationParams, Bundle passProps) {
@@ -57,6 +60,9 @@ public class ContentView extends ReactRootView {
 
     public void unmountReactView() {
         unmountReactApplication();
+        if (navigationParams != null) {
+            NavigationApplication.instance.getEventEmitter().setNavigatorEventInterest(getNavigatorEventId(), null);
+        }
     }
 
     @Override
@@ -0,0 +1,127 @@
+package com.reactnativenavigation.views;
+
+import android.app.Activity;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.Nullable;
+import android.util.DisplayMetrics;
+import android.view.View;
+
+import com.reactnativenavigation.events.Event;
+import com.reactnativenavigation.events.EventBus;
+import com.reactnativenavigation.events.Subscriber;
+import com.reactnativenavigation.events.TrimMemoryEvent;
+import com.reactnativenavigation.params.NavigationParams;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Holds ContentViews which were mounted before their screen was pushed, so JS renders them while the user is still
+ * looking at the previous screen. A prefetched view is taken by the screen with the same screenInstanceId, and
+ * unmounted if it isn't pushed within {@link #EXPIRY_MS} or when memory runs low.
+ * <p>
+ * All methods must be called on the main thread.
+ */
+public enum ContentViewPrefetcher implements Subscriber {
+    instance;
+
+    private static final long EXPIRY_MS = 30000;
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private boolean registered;
+
+    public void prefetch(Activity activity, String screenId, NavigationParams navigationParams, @Nullable Bundle passProps) {
+        final String screenInstanceId = navigationParams.screenInstanceId;
+        if (screenInstanceId == null || entries.containsKey(screenInstanceId)) {
+            return;
+        }
+        registerIfNeeded();
+        ContentView view = new ContentView(activity, screenId, navigationParams, passProps);
+        layoutOffWindow(activity, view);
+        Runnable expire = new Runnable() {
+            @Override
+            public void run() {
+                evict(screenInstanceId);
+            }
+        };
+        entries.put(screenInstanceId, new Entry(view, expire));
+        handler.postDelayed(expire, EXPIRY_MS);
+    }
+
+    /**
+     * @return the view prefetched for the screen, or null if there's none which can be shown in the given activity
+     */
+    @Nullable
+    public ContentView take(Activity activity, String screenInstanceId) {
+        Entry entry = entries.remove(screenInstanceId);
+        if (entry == null) {
+            return null;
+        }
+        handler.removeCallbacks(entry.expire);
+        if (entry.view.getContext() != activity) {
+            entry.view.unmountReactView();
+            return null;
+        }
+        return entry.view;
+    }
+
+    public void clear() {
+        for (String screenInstanceId : new ArrayList<>(entries.keySet())) {
+            evict(screenInstanceId);
+        }
+    }
+
+    @Override
+    public void onEvent(Event event) {
+        if (TrimMemoryEvent.TYPE.equals(event.getType())) {
+            clear();
+        }
+    }
+
+    private void evict(String screenInstanceId) {
+        Entry entry = entries.remove(screenInstanceId);
+        if (entry != null) {
+            handler.removeCallbacks(entry.expire);
+            entry.view.unmountReactView();
+        }
+    }
+
+    private void registerIfNeeded() {
+        if (!registered) {
+            EventBus.instance.register(this, TrimMemoryEvent.TYPE);
+            registered = true;
+        }
+    }
+
+    /**
+     * ReactRootView only attaches to the React instance once it's measured, so the view is laid out at the size of
+     * the activity's content as if it were on screen.
+     */
+    private static void layoutOffWindow(Activity activity, ContentView view) {
+        View content = activity.findViewById(android.R.id.content);
+        int width = content == null ? 0 : content.getWidth();
+        int height = content == null ? 0 : content.getHeight();
+        if (width == 0 || height == 0) {
+            DisplayMetrics metrics = activity.getResources().getDisplayMetrics();
+            width = metrics.widthPixels;
+            height = metrics.heightPixels;
+        }
+        view.measure(View.MeasureSpec.makeMeasureSpec(width, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(height, View.MeasureSpec.EXACTLY));
+        view.layout(0, 0, width, height);
+    }
+
+    private static class Entry {
+        final ContentView view;
+        final Runnable expire;
+
+        Entry(ContentView view, Runnable expire) {
+            this.view = view;
+            this.expire = expire;
+        }
+    }
+}
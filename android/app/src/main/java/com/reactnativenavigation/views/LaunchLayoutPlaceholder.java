@@ -0,0 +1,77 @@
+package com.reactnativenavigation.views;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.widget.RelativeLayout;
+
+import com.reactnativenavigation.params.ActivityParams;
+import com.reactnativenavigation.params.ScreenParams;
+import com.reactnativenavigation.params.StyleParams;
+
+import static android.view.ViewGroup.LayoutParams.MATCH_PARENT;
+import static android.view.ViewGroup.LayoutParams.WRAP_CONTENT;
+
+/**
+ * The native chrome of a cached launch layout: the top bar of the initial screen and the bottom tabs, without React
+ * content. Shown by the splash activity until JS starts the app.
+ */
+@SuppressLint("ViewConstructor")
+public class LaunchLayoutPlaceholder extends RelativeLayout {
+    private final ActivityParams params;
+
+    public LaunchLayoutPlaceholder(Context context, ActivityParams params) {
+        super(context);
+        this.params = params;
+        createLayout();
+    }
+
+    public StyleParams getStyleParams() {
+        return getInitialScreenParams().styleParams;
+    }
+
+    private void createLayout() {
+        ScreenParams screenParams = getInitialScreenParams();
+        StyleParams styleParams = screenParams.styleParams;
+        if (styleParams.screenBackgroundColor.hasColor()) {
+            setBackgroundColor(styleParams.screenBackgroundColor.getColor());
+        }
+        if (!styleParams.titleBarHidden) {
+            addTopBar(screenParams);
+        }
+        if (params.type == ActivityParams.Type.TabBased) {
+            addBottomTabs(styleParams);
+        }
+    }
+
+    private void addTopBar(ScreenParams screenParams) {
+        TopBar topBar = new TopBar(getContext());
+        topBar.addTitleBarAndSetButtons(null, null, null, null, null, false);
+        topBar.setTitle(screenParams.title);
+        topBar.setSubtitle(screenParams.subtitle);
+        topBar.setStyle(screenParams.styleParams);
+        addView(topBar, new LayoutParams(MATCH_PARENT, WRAP_CONTENT));
+    }
+
+    private void addBottomTabs(StyleParams styleParams) {
+        BottomTabs bottomTabs = new BottomTabs(getContext());
+        bottomTabs.addTabs(params.tabParams, null);
+        bottomTabs.setStyleFromScreen(styleParams);
+        bottomTabs.setCurrentItem(getInitialTabIndex(), false);
+        LayoutParams lp = new LayoutParams(MATCH_PARENT, WRAP_CONTENT);
+        lp.addRule(ALIGN_PARENT_BOTTOM);
+        addView(bottomTabs, lp);
+    }
+
+    private ScreenParams getInitialScreenParams() {
+        return params.type == ActivityParams.Type.TabBased ? params.tabParams.get(getInitialTabIndex()) : params.screenParams;
+    }
+
+    private int getInitialTabIndex() {
+        for (int i = 0; i < params.tabParams.size(); i++) {
+            if (params.tabParams.get(i).screenId.equals(params.selectedPath)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+}
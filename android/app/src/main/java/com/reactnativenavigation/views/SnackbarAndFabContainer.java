@@ -21,7 +21,7 @@ public class SnackbarAndFabContainer extends CoordinatorLayout implements Snakba
         super(context);
         this.layout = layout;
         fabCoordinator = new FloatingActionButtonCoordinator(this);
-        EventBus.instance.register(this);
+        EventBus.instance.register(this, ScreenChangedEvent.TYPE, FabSetEvent.TYPE);
     }
 
     public void showSnackbar(final String navigatorEventId, final SnackbarParams params) {
@@ -1,5 +1,6 @@
 package com.reactnativenavigation.views;
 
+import android.graphics.drawable.Drawable;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.text.SpannableStringBuilder;
@@ -11,6 +12,7 @@ import android.widget.TextView;
 
 import com.reactnativenavigation.NavigationApplication;
 import com.reactnativenavigation.params.TitleBarButtonParams;
+import com.reactnativenavigation.utils.TintCache;
 import com.reactnativenavigation.utils.TypefaceSpan;
 import com.reactnativenavigation.utils.ViewUtils;
 
@@ -62,17 +64,32 @@ class TitleBarButton implements MenuItem.OnMenuItemClickListener {
 
     private void setIcon(MenuItem item) {
         if (hasIcon()) {
-            item.setIcon(buttonParams.icon);
+            item.setIcon(hasSharedTintedIcon() ? getSharedTintedIcon() : buttonParams.icon);
         }
     }
 
+    /**
+     * Icons which can't be copied, such as packager icons which are still loading, are tinted in place instead
+     */
+    private boolean hasSharedTintedIcon() {
+        return buttonParams.iconSource != null && hasColor() && !disableIconTint() &&
+               buttonParams.icon.getConstantState() != null;
+    }
+
+    private Drawable getSharedTintedIcon() {
+        int color = ViewUtils.getTintColor(buttonParams.color.getColor(), buttonParams.enabled);
+        return TintCache.instance.getTintedDrawable(buttonParams.iconSource, buttonParams.icon, color);
+    }
+
     private void setColor() {
         if (!hasColor() || disableIconTint()) {
             return;
         }
 
         if (hasIcon()) {
-            setIconColor();
+            if (!hasSharedTintedIcon()) {
+                setIconColor();
+            }
         } else {
             setTextColor();
         }
@@ -2,9 +2,9 @@ package com.reactnativenavigation.views.utils;
 
 import android.content.res.ColorStateList;
 import android.graphics.drawable.Drawable;
-import android.support.v4.graphics.drawable.DrawableCompat;
 
 import com.reactnativenavigation.params.StyleParams;
+import com.reactnativenavigation.utils.TintCache;
 import com.reactnativenavigation.views.TopTabs;
 
 public class TopTabsIconColorHelper {
@@ -30,35 +30,14 @@ public class TopTabsIconColorHelper {
         if (style.selectedTopTabIconColor.hasColor()) {
             selectedColor = style.selectedTopTabIconColor.getColor();
         }
-        return createColorStateList(selectedColor, unselectedColor);
-    }
-
-    private ColorStateList createColorStateList(int selectedColor, int unselectedIconColor) {
-        int[][] states = new int[][] {
-                new int[]{android.R.attr.state_pressed},
-                new int[]{android.R.attr.state_selected},
-                new int[]{android.R.attr.state_enabled},
-                new int[]{android.R.attr.state_focused, android.R.attr.state_pressed},
-                new int[]{-android.R.attr.state_enabled},
-                new int[]{}
-        };
-        int[] colors = new int[]{
-                selectedColor,
-                selectedColor,
-                unselectedIconColor,
-                unselectedIconColor,
-                unselectedIconColor,
-                unselectedIconColor
-        };
-        return new ColorStateList(states, colors);
+        return TintCache.instance.getSelectableColorStateList(selectedColor, unselectedColor);
     }
 
     private void colorIcons(ColorStateList colorStateList) {
         for (int i = 0; i < topTabs.getTabCount(); i++) {
             Drawable icon = topTabs.getTabAt(i).getIcon();
             if (icon != null) {
-                icon = DrawableCompat.wrap(icon);
-                DrawableCompat.setTintList(icon, colorStateList);
+                icon.setTintList(colorStateList);
             }
         }
     }
@@ -0,0 +1,153 @@
+package com.reactnativenavigation.bridge;
+
+import android.os.Bundle;
+
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableMapKeySetIterator;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Reports the time and allocations of the current converter and of the previous implementation, which caught an
+ * exception for every non integer number and converted arrays to Bundles keyed by index, on a 200 key passProps
+ * payload. It only reports, since timings vary between machines, and is excluded from the unit tests unless gradle
+ * runs with -Pbenchmarks.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class BundleConverterBenchmarkTest {
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int ITERATIONS = 2000;
+
+    @Test
+    public void benchmark() {
+        ReadableMap passProps = BundleConverterTest.createPassProps();
+        Measurement legacy = measure(passProps, new Conversion() {
+            @Override
+            public Bundle convert(ReadableMap map) {
+                return LegacyBundleConverter.toBundle(map);
+            }
+        });
+        Measurement current = measure(passProps, new Conversion() {
+            @Override
+            public Bundle convert(ReadableMap map) {
+                return BundleConverter.toBundle(map);
+            }
+        });
+
+        System.out.println("BundleConverter, " + BundleConverterTest.PASS_PROPS_SIZE + " keys x " + ITERATIONS + " iterations");
+        System.out.println("  legacy:  " + legacy);
+        System.out.println("  current: " + current);
+    }
+
+    private Measurement measure(ReadableMap passProps, Conversion conversion) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            conversion.convert(passProps);
+        }
+        long allocatedBefore = getAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            conversion.convert(passProps);
+        }
+        long nanos = System.nanoTime() - start;
+        long allocatedAfter = getAllocatedBytes();
+        return new Measurement(nanos, allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore);
+    }
+
+    private static long getAllocatedBytes() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    private interface Conversion {
+        Bundle convert(ReadableMap map);
+    }
+
+    private static class Measurement {
+        final long nanos;
+        final long allocatedBytes;
+
+        Measurement(long nanos, long allocatedBytes) {
+            this.nanos = nanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return (nanos / ITERATIONS) + " ns/op, " +
+                   (allocatedBytes < 0 ? "n/a" : String.valueOf(allocatedBytes / ITERATIONS)) + " bytes/op";
+        }
+    }
+
+    /**
+     * The implementation BundleConverter replaced
+     */
+    private static class LegacyBundleConverter {
+        static Bundle toBundle(ReadableMap map) {
+            Bundle bundle = new Bundle();
+            ReadableMapKeySetIterator it = map.keySetIterator();
+            while (it.hasNextKey()) {
+                String key = it.nextKey();
+                switch (map.getType(key)) {
+                    case Boolean:
+                        bundle.putBoolean(key, map.getBoolean(key));
+                        break;
+                    case Number:
+                        try {
+                            bundle.putInt(key, map.getInt(key));
+                        } catch (Exception e) {
+                            bundle.putDouble(key, map.getDouble(key));
+                        }
+                        break;
+                    case String:
+                        bundle.putString(key, map.getString(key));
+                        break;
+                    case Map:
+                        bundle.putBundle(key, toBundle(map.getMap(key)));
+                        break;
+                    case Array:
+                        bundle.putBundle(key, toBundle(map.getArray(key)));
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return bundle;
+        }
+
+        static Bundle toBundle(ReadableArray array) {
+            Bundle bundle = new Bundle();
+            for (int i = 0; i < array.size(); i++) {
+                String key = String.valueOf(i);
+                switch (array.getType(i)) {
+                    case Boolean:
+                        bundle.putBoolean(key, array.getBoolean(i));
+                        break;
+                    case Number:
+                        bundle.putDouble(key, array.getDouble(i));
+                        break;
+                    case String:
+                        bundle.putString(key, array.getString(i));
+                        break;
+                    case Map:
+                        bundle.putBundle(key, toBundle(array.getMap(i)));
+                        break;
+                    case Array:
+                        bundle.putBundle(key, toBundle(array.getArray(i)));
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return bundle;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.reactnativenavigation.bridge;
+
+import android.os.Bundle;
+
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.facebook.react.bridge.ReadableMap;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class BundleConverterTest {
+    static final int PASS_PROPS_SIZE = 200;
+
+    @Test
+    public void preservesTypes() {
+        Bundle bundle = BundleConverter.toBundle(createPassProps());
+        assertThat(bundle.get("int0")).isInstanceOf(Integer.class);
+        assertThat(bundle.get("double1")).isInstanceOf(Double.class);
+        assertThat(bundle.getDouble("double1")).isEqualTo(1.5);
+        assertThat(bundle.getString("string2")).isEqualTo("value2");
+        assertThat(bundle.getBoolean("boolean3")).isTrue();
+        assertThat(bundle.getBundle("map4").getInt("id")).isEqualTo(4);
+        assertThat(bundle.getDoubleArray("numbers9")).hasSize(10);
+        assertThat(bundle.getParcelableArrayList("maps14")).hasSize(5);
+        assertThat(bundle.getStringArray("strings19")).containsExactly("a", "b", "c");
+        assertThat(bundle.getParcelableArrayList("empty24")).isEmpty();
+    }
+
+    /**
+     * A passProps payload of {@link #PASS_PROPS_SIZE} keys mixing primitives, maps and arrays
+     */
+    static ReadableMap createPassProps() {
+        JavaOnlyMap result = new NativeLikeMap();
+        for (int i = 0; i < PASS_PROPS_SIZE; i++) {
+            switch (i % 25) {
+                case 4:
+                    result.putMap("map" + i, createItem(i));
+                    break;
+                case 9:
+                    result.putArray("numbers" + i, createNumbers());
+                    break;
+                case 14:
+                    result.putArray("maps" + i, createItems());
+                    break;
+                case 19:
+                    result.putArray("strings" + i, JavaOnlyArray.of("a", "b", "c"));
+                    break;
+                case 24:
+                    result.putArray("empty" + i, new JavaOnlyArray());
+                    break;
+                default:
+                    putPrimitive(result, i);
+                    break;
+            }
+        }
+        return result;
+    }
+
+    private static void putPrimitive(JavaOnlyMap map, int i) {
+        switch (i % 4) {
+            case 0:
+                map.putInt("int" + i, i);
+                break;
+            case 1:
+                map.putDouble("double" + i, i + 0.5);
+                break;
+            case 2:
+                map.putString("string" + i, "value" + i);
+                break;
+            default:
+                map.putBoolean("boolean" + i, true);
+                break;
+        }
+    }
+
+    private static JavaOnlyMap createItem(int id) {
+        JavaOnlyMap item = new NativeLikeMap();
+        item.putInt("id", id);
+        item.putString("title", "Item " + id);
+        item.putDouble("price", id + 0.99);
+        item.putDouble("rating", 4.25);
+        item.putBoolean("available", id % 2 == 0);
+        return item;
+    }
+
+    private static JavaOnlyArray createItems() {
+        JavaOnlyArray items = new JavaOnlyArray();
+        for (int i = 0; i < 5; i++) {
+            items.pushMap(createItem(i));
+        }
+        return items;
+    }
+
+    private static JavaOnlyArray createNumbers() {
+        JavaOnlyArray numbers = new JavaOnlyArray();
+        for (int i = 0; i < 10; i++) {
+            numbers.pushDouble(i * 1.1);
+        }
+        return numbers;
+    }
+
+    /**
+     * Like ReadableNativeMap, refuses to read a non integer number as an int
+     */
+    private static class NativeLikeMap extends JavaOnlyMap {
+        @Override
+        public int getInt(String name) {
+            double value = getDouble(name);
+            if (value != Math.rint(value)) {
+                throw new ClassCastException(name + " is not an int");
+            }
+            return (int) value;
+        }
+    }
+}
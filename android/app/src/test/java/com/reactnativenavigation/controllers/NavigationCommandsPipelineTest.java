@@ -0,0 +1,64 @@
+package com.reactnativenavigation.controllers;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class NavigationCommandsPipelineTest {
+    private final List<String> applied = new ArrayList<>();
+    private final List<String> rejected = new ArrayList<>();
+    private NavigationCommandsPipeline uut;
+
+    @Before
+    public void beforeEach() {
+        NavigationActivity.currentActivity = null;
+        uut = new NavigationCommandsPipeline(new NavigationCommandsScheduler() {
+            @Override
+            void schedule(Runnable task, boolean heavy) {
+                task.run();
+            }
+        });
+    }
+
+    @Test
+    public void rejectsTheOldestDeferredCommandWhenTheQueueOverflows() {
+        for (int i = 0; i <= NavigationCommandsPipeline.MAX_DEFERRED_COMMANDS; i++) {
+            uut.submit(command("push" + i));
+        }
+        assertThat(applied).isEmpty();
+        assertThat(rejected).containsExactly("push0:" + NavigationCommandsPipeline.TOO_MANY_DEFERRED_COMMANDS);
+    }
+
+    @Test
+    public void rejectsClearedCommands() {
+        uut.submit(command("push"));
+        uut.submit(command("pop"));
+
+        uut.clearDeferredCommands("AppDestroyed", "destroyed");
+        assertThat(rejected).containsExactly("push:AppDestroyed", "pop:AppDestroyed");
+
+        uut.applyDeferredCommands();
+        assertThat(applied).isEmpty();
+    }
+
+    private NavigationCommand command(final String name) {
+        return new NavigationCommand(name) {
+            @Override
+            void reject(String code, String message) {
+                rejected.add(name + ":" + code);
+            }
+
+            @Override
+            void execute(NavigationActivity activity) {
+                applied.add(name);
+            }
+        };
+    }
+}
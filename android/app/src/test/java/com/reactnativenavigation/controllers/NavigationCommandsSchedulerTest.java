@@ -0,0 +1,115 @@
+package com.reactnativenavigation.controllers;
+
+import android.view.Choreographer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class NavigationCommandsSchedulerTest {
+    private final List<String> applied = new ArrayList<>();
+    private final List<Choreographer.FrameCallback> requestedFrames = new ArrayList<>();
+    private NavigationCommandsScheduler.FrameAligned uut;
+
+    @Before
+    public void beforeEach() {
+        uut = new NavigationCommandsScheduler.FrameAligned(new NavigationCommandsScheduler.FrameAligned.Frames() {
+            @Override
+            public void request(Choreographer.FrameCallback callback) {
+                requestedFrames.add(callback);
+            }
+        });
+    }
+
+    @Test
+    public void appliesCommandsAtTheStartOfTheNextFrame() {
+        uut.schedule(command("setTitle"), false);
+        assertThat(applied).isEmpty();
+        assertThat(requestedFrames).hasSize(1);
+
+        runFrame();
+        assertThat(applied).containsExactly("setTitle");
+    }
+
+    @Test
+    public void drainsAllCommandsInOrderWithinOneFrame() {
+        uut.schedule(command("setTitle"), false);
+        uut.schedule(command("push"), true);
+        uut.schedule(command("setSubtitle"), false);
+        uut.schedule(command("setStyle"), false);
+        assertThat(requestedFrames).hasSize(1);
+
+        runFrame();
+        assertThat(applied).containsExactly("setTitle", "push", "setSubtitle", "setStyle");
+        assertThat(requestedFrames).isEmpty();
+    }
+
+    @Test
+    public void commandsScheduledWhileDrainingRunInTheSameFrame() {
+        uut.schedule(new Runnable() {
+            @Override
+            public void run() {
+                applied.add("first");
+                uut.schedule(command("second"), false);
+            }
+        }, false);
+
+        runFrame();
+        assertThat(applied).containsExactly("first", "second");
+        assertThat(requestedFrames).isEmpty();
+    }
+
+    @Test
+    public void spreadsCommandsWhichCreateScreensOverFrames() {
+        uut.schedule(command("push1"), true);
+        uut.schedule(command("setTitle"), false);
+        uut.schedule(command("push2"), true);
+        uut.schedule(command("showModal"), true);
+
+        runFrame();
+        assertThat(applied).containsExactly("push1", "setTitle");
+
+        runFrame();
+        assertThat(applied).containsExactly("push1", "setTitle", "push2");
+
+        runFrame();
+        assertThat(applied).containsExactly("push1", "setTitle", "push2", "showModal");
+        assertThat(requestedFrames).isEmpty();
+    }
+
+    @Test
+    public void requestsOneFramePerBatch() {
+        for (int i = 0; i < 10; i++) {
+            uut.schedule(command(String.valueOf(i)), false);
+        }
+        assertThat(requestedFrames).hasSize(1);
+
+        runFrame();
+        assertThat(applied).hasSize(10);
+
+        uut.schedule(command("next"), false);
+        assertThat(requestedFrames).hasSize(1);
+    }
+
+    private void runFrame() {
+        assertThat(requestedFrames).hasSize(1);
+        Choreographer.FrameCallback frame = requestedFrames.remove(0);
+        frame.doFrame(System.nanoTime());
+    }
+
+    private Runnable command(final String name) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                applied.add(name);
+            }
+        };
+    }
+}
@@ -0,0 +1,155 @@
+package com.reactnativenavigation.events;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Reports the time and allocations of posting with the type indexed bus and with the previous implementation, which
+ * delivered every event to every subscriber, with 1,000 registered subscribers of which only a few handle the posted
+ * event. It only reports, since timings vary between machines, and is excluded from the unit tests unless gradle runs
+ * with -Pbenchmarks.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class EventBusBenchmarkTest {
+    private static final int SUBSCRIBERS = 1000;
+    private static final int SUBSCRIBERS_OF_POSTED_TYPE = 10;
+    private static final int WARMUP_ITERATIONS = 1000;
+    private static final int ITERATIONS = 20000;
+    private static final String[] OTHER_TYPES = {
+            ModalDismissedEvent.TYPE, JsDevReloadEvent.TYPE, ScreenChangedEvent.TYPE, FabSetEvent.TYPE
+    };
+
+    private final List<CountingSubscriber> subscribers = new ArrayList<>();
+
+    @After
+    public void afterEach() {
+        for (CountingSubscriber subscriber : subscribers) {
+            EventBus.instance.unregister(subscriber);
+        }
+    }
+
+    @Test
+    public void benchmark() {
+        final LegacyEventBus legacy = new LegacyEventBus();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            CountingSubscriber subscriber = i < SUBSCRIBERS_OF_POSTED_TYPE ?
+                    subscribe(ViewPagerScreenChangedEvent.TYPE) :
+                    subscribe(OTHER_TYPES[i % OTHER_TYPES.length]);
+            legacy.register(subscriber);
+        }
+        final Event event = new ViewPagerScreenChangedEvent();
+
+        Measurement legacyPost = measure(new Runnable() {
+            @Override
+            public void run() {
+                legacy.post(event);
+            }
+        });
+        Measurement currentPost = measure(new Runnable() {
+            @Override
+            public void run() {
+                EventBus.instance.post(event);
+            }
+        });
+
+        System.out.println("EventBus.post, " + SUBSCRIBERS + " subscribers x " + ITERATIONS + " iterations");
+        System.out.println("  legacy:  " + legacyPost);
+        System.out.println("  current: " + currentPost);
+    }
+
+    private CountingSubscriber subscribe(String... types) {
+        CountingSubscriber subscriber = new CountingSubscriber();
+        subscribers.add(subscriber);
+        EventBus.instance.register(subscriber, types);
+        return subscriber;
+    }
+
+    private Measurement measure(Runnable post) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            post.run();
+        }
+        long allocatedBefore = getAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            post.run();
+        }
+        long nanos = System.nanoTime() - start;
+        long allocatedAfter = getAllocatedBytes();
+        return new Measurement(nanos, allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore);
+    }
+
+    private static long getAllocatedBytes() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    private static class CountingSubscriber implements Subscriber {
+        int received;
+
+        @Override
+        public void onEvent(Event event) {
+            received++;
+        }
+    }
+
+    private static class Measurement {
+        final long nanos;
+        final long allocatedBytes;
+
+        Measurement(long nanos, long allocatedBytes) {
+            this.nanos = nanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return (nanos / ITERATIONS) + " ns/op, " +
+                   (allocatedBytes < 0 ? "n/a" : String.valueOf(allocatedBytes / ITERATIONS)) + " bytes/op";
+        }
+    }
+
+    /**
+     * The implementation EventBus replaced
+     */
+    private static class LegacyEventBus {
+        private final List<WeakReference<Subscriber>> subscribers = new ArrayList<>();
+
+        void register(Subscriber subscriber) {
+            if (isSubscribed(subscriber)) return;
+            subscribers.add(new WeakReference<>(subscriber));
+        }
+
+        void post(Event event) {
+            ListIterator<WeakReference<Subscriber>> iterator = subscribers.listIterator();
+            while (iterator.hasNext()) {
+                WeakReference<Subscriber> ref = iterator.next();
+                Subscriber registered = ref.get();
+                if (registered != null) {
+                    registered.onEvent(event);
+                }
+            }
+        }
+
+        boolean isSubscribed(Subscriber subscriber) {
+            for (WeakReference<Subscriber> ref : subscribers) {
+                Subscriber registered = ref.get();
+                if (registered != null && registered.equals(subscriber)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
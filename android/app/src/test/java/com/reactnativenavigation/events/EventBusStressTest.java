@@ -0,0 +1,199 @@
+package com.reactnativenavigation.events;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+/**
+ * Posts from 8 threads while other subscribers keep registering and unregistering.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class EventBusStressTest {
+    private static final int POSTING_THREADS = 8;
+    private static final int EVENTS_PER_THREAD = 2000;
+
+    private final List<Subscriber> subscribers = Collections.synchronizedList(new ArrayList<Subscriber>());
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    @After
+    public void afterEach() {
+        for (Subscriber subscriber : new ArrayList<>(subscribers)) {
+            EventBus.instance.unregister(subscriber);
+        }
+        EventBus.instance.removeStickyEvent(StressEvent.TYPE);
+    }
+
+    @Test
+    public void postsFromManyThreadsWhileRegistering() throws InterruptedException {
+        final AtomicInteger received = new AtomicInteger();
+        register(new Subscriber() {
+            @Override
+            public void onEvent(Event event) {
+                received.incrementAndGet();
+            }
+        });
+
+        runConcurrently(new Poster() {
+            @Override
+            public void post(StressEvent event) {
+                EventBus.instance.post(event);
+            }
+        });
+
+        assertThat(failure.get()).isNull();
+        assertThat(received.get()).isEqualTo(POSTING_THREADS * EVENTS_PER_THREAD);
+    }
+
+    @Test
+    public void postOnMainDeliversEachThreadsEventsInOrderOnTheMainThread() throws InterruptedException {
+        final Thread mainThread = Thread.currentThread();
+        final int[] lastSequence = new int[POSTING_THREADS];
+        final int[] received = {0};
+        Arrays.fill(lastSequence, -1);
+        register(new Subscriber() {
+            @Override
+            public void onEvent(Event event) {
+                StressEvent stressEvent = (StressEvent) event;
+                if (Thread.currentThread() != mainThread) {
+                    failure.compareAndSet(null, new AssertionError("Delivered on " + Thread.currentThread()));
+                }
+                if (stressEvent.sequence != lastSequence[stressEvent.thread] + 1) {
+                    failure.compareAndSet(null, new AssertionError("Out of order: " + stressEvent));
+                }
+                lastSequence[stressEvent.thread] = stressEvent.sequence;
+                received[0]++;
+            }
+        });
+
+        runConcurrently(new Poster() {
+            @Override
+            public void post(StressEvent event) {
+                EventBus.instance.postOnMain(event);
+            }
+        });
+        ShadowLooper.runUiThreadTasks();
+
+        assertThat(failure.get()).isNull();
+        assertThat(received[0]).isEqualTo(POSTING_THREADS * EVENTS_PER_THREAD);
+    }
+
+    @Test
+    public void stickyEventIsDeliveredToLaterSubscribers() {
+        EventBus.instance.postSticky(new StressEvent(0, 42));
+        final List<Event> received = new ArrayList<>();
+        register(new Subscriber() {
+            @Override
+            public void onEvent(Event event) {
+                received.add(event);
+            }
+        });
+
+        assertThat(received).hasSize(1);
+        assertThat(((StressEvent) received.get(0)).sequence).isEqualTo(42);
+    }
+
+    private void runConcurrently(final Poster poster) throws InterruptedException {
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(POSTING_THREADS);
+        for (int i = 0; i < POSTING_THREADS; i++) {
+            final int thread = i;
+            startThread(new Runnable() {
+                @Override
+                public void run() {
+                    await(start);
+                    for (int sequence = 0; sequence < EVENTS_PER_THREAD; sequence++) {
+                        poster.post(new StressEvent(thread, sequence));
+                    }
+                    done.countDown();
+                }
+            });
+        }
+        final AtomicInteger churned = new AtomicInteger();
+        Thread churn = startThread(new Runnable() {
+            @Override
+            public void run() {
+                await(start);
+                while (done.getCount() > 0) {
+                    Subscriber subscriber = new Subscriber() {
+                        @Override
+                        public void onEvent(Event event) {
+                        }
+                    };
+                    EventBus.instance.register(subscriber, StressEvent.TYPE);
+                    EventBus.instance.unregister(subscriber);
+                    churned.incrementAndGet();
+                }
+            }
+        });
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        churn.join();
+        assertThat(churned.get()).isGreaterThan(0);
+    }
+
+    private Thread startThread(final Runnable runnable) {
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    runnable.run();
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private void register(Subscriber subscriber) {
+        subscribers.add(subscriber);
+        EventBus.instance.register(subscriber, StressEvent.TYPE);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private interface Poster {
+        void post(StressEvent event);
+    }
+
+    private static class StressEvent implements Event {
+        static final String TYPE = "StressEvent";
+        final int thread;
+        final int sequence;
+
+        StressEvent(int thread, int sequence) {
+            this.thread = thread;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public String getType() {
+            return TYPE;
+        }
+
+        @Override
+        public String toString() {
+            return "StressEvent{thread=" + thread + ", sequence=" + sequence + "}";
+        }
+    }
+}
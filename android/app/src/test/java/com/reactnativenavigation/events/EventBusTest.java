@@ -0,0 +1,66 @@
+package com.reactnativenavigation.events;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class EventBusTest {
+    private final List<CountingSubscriber> subscribers = new ArrayList<>();
+
+    @After
+    public void afterEach() {
+        for (CountingSubscriber subscriber : subscribers) {
+            EventBus.instance.unregister(subscriber);
+        }
+    }
+
+    @Test
+    public void deliversEventsOnlyToSubscribersOfTheirType() {
+        CountingSubscriber pager = subscribe(ViewPagerScreenChangedEvent.TYPE);
+        CountingSubscriber modal = subscribe(ModalDismissedEvent.TYPE);
+        CountingSubscriber all = subscribe();
+
+        EventBus.instance.post(new ViewPagerScreenChangedEvent());
+        assertThat(pager.received).isEqualTo(1);
+        assertThat(modal.received).isEqualTo(0);
+        assertThat(all.received).isEqualTo(1);
+
+        EventBus.instance.unregister(pager);
+        EventBus.instance.post(new ViewPagerScreenChangedEvent());
+        assertThat(pager.received).isEqualTo(1);
+        assertThat(EventBus.instance.isSubscribed(pager)).isFalse();
+    }
+
+    @Test
+    public void registeringAgainAddsTypes() {
+        CountingSubscriber subscriber = subscribe(ViewPagerScreenChangedEvent.TYPE);
+        EventBus.instance.register(subscriber, ViewPagerScreenChangedEvent.TYPE, ViewPagerScreenScrollStartEvent.TYPE);
+
+        EventBus.instance.post(new ViewPagerScreenChangedEvent());
+        EventBus.instance.post(new ViewPagerScreenScrollStartEvent());
+        assertThat(subscriber.received).isEqualTo(2);
+    }
+
+    private CountingSubscriber subscribe(String... types) {
+        CountingSubscriber subscriber = new CountingSubscriber();
+        subscribers.add(subscriber);
+        EventBus.instance.register(subscriber, types);
+        return subscriber;
+    }
+
+    private static class CountingSubscriber implements Subscriber {
+        int received;
+
+        @Override
+        public void onEvent(Event event) {
+            received++;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.reactnativenavigation.utils;
+
+import android.os.Bundle;
+import android.os.Parcelable;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class BundleCodecTest {
+
+    @Test
+    public void readsWhatItWrites() throws IOException {
+        Bundle bundle = createParams("screenInstanceID1");
+
+        Bundle result = read(write(bundle, Collections.<String>emptySet()));
+
+        assertThat(result.getString("title")).isEqualTo("Home");
+        assertThat(result.getBoolean("animateShow")).isTrue();
+        assertThat(result.getInt("titleBarHeight")).isEqualTo(56);
+        assertThat(result.getDouble("opacity")).isEqualTo(0.5);
+        assertThat(result.getDoubleArray("insets")).containsExactly(1, 2.5);
+        assertThat(result.getStringArray("labels")).containsExactly("One", "Two");
+        assertThat(result.getBooleanArray("flags")).containsExactly(true, false);
+        assertThat(result.getBundle("appStyle").getInt("topBarColor")).isEqualTo(0xff0000ff);
+        ArrayList<Bundle> tabs = result.getParcelableArrayList("tabs");
+        assertThat(tabs).hasSize(1);
+        assertThat(tabs.get(0).getString("screenId")).isEqualTo("example.Tab");
+        assertThat(tabs.get(0).getBundle("navigationParams").getString("screenInstanceID")).isEqualTo("screenInstanceID1");
+    }
+
+    @Test
+    public void writesEqualBundlesTheSameRegardlessOfSkippedKeys() throws IOException {
+        Set<String> skipped = Collections.singleton("navigationParams");
+
+        byte[] first = write(createParams("screenInstanceID1"), skipped);
+        byte[] second = write(createParams("screenInstanceID2"), skipped);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(read(first).getParcelableArrayList("tabs")).hasSize(1);
+    }
+
+    private Bundle createParams(String screenInstanceId) {
+        Bundle navigationParams = new Bundle();
+        navigationParams.putString("screenInstanceID", screenInstanceId);
+        Bundle tab = new Bundle();
+        tab.putString("screenId", "example.Tab");
+        tab.putBundle("navigationParams", navigationParams);
+        ArrayList<Parcelable> tabs = new ArrayList<>();
+        tabs.add(tab);
+        Bundle appStyle = new Bundle();
+        appStyle.putInt("topBarColor", 0xff0000ff);
+
+        Bundle bundle = new Bundle();
+        bundle.putString("title", "Home");
+        bundle.putBoolean("animateShow", true);
+        bundle.putInt("titleBarHeight", 56);
+        bundle.putDouble("opacity", 0.5);
+        bundle.putDoubleArray("insets", new double[]{1, 2.5});
+        bundle.putStringArray("labels", new String[]{"One", "Two"});
+        bundle.putBooleanArray("flags", new boolean[]{true, false});
+        bundle.putBundle("appStyle", appStyle);
+        bundle.putParcelableArrayList("tabs", tabs);
+        return bundle;
+    }
+
+    private static byte[] write(Bundle bundle, Set<String> skippedKeys) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        BundleCodec.write(out, bundle, skippedKeys);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static Bundle read(byte[] data) throws IOException {
+        return BundleCodec.read(new DataInputStream(new ByteArrayInputStream(data)));
+    }
+}
@@ -22,12 +22,20 @@ class Navigator {
     this.navigatorEventID = navigatorEventID;
     this.navigatorEventHandler = null;
     this.navigatorEventSubscription = null;
+    // Native only sends a navigator the events it declared interest in, none until setOnNavigatorEvent is called
+    this._setEventInterest([]);
   }
 
   push(params = {}) {
     return NavigationSpecific.push(this, params);
   }
 
+  prefetch(params = {}) {
+    if (Platform.OS === 'android') {
+      platformSpecific.navigatorPrefetch(this, params);
+    }
+  }
+
   pop(params = {}) {
     return NavigationSpecific.pop(this, params);
   }
@@ -140,13 +148,22 @@ class Navigator {
     Navigation.handleDeepLink(params);
   }
 
-  setOnNavigatorEvent(callback) {
+  // eventTypes lists the event ids or types the callback handles, native doesn't send other events to this navigator.
+  // Without it every event is sent, and without a callback none is.
+  setOnNavigatorEvent(callback, eventTypes = ['*']) {
     this.navigatorEventHandler = callback;
     if (!this.navigatorEventSubscription) {
       let Emitter = Platform.OS === 'android' ? DeviceEventEmitter : NativeAppEventEmitter;
       this.navigatorEventSubscription = Emitter.addListener(this.navigatorEventID, (event) => this.onNavigatorEvent(event));
       Navigation.setEventHandler(this.navigatorEventID, (event) => this.onNavigatorEvent(event));
     }
+    this._setEventInterest(callback ? eventTypes : []);
+  }
+
+  _setEventInterest(eventTypes) {
+    if (Platform.OS === 'android') {
+      platformSpecific.navigatorSetEventInterest(this, eventTypes);
+    }
   }
 
   onNavigatorEvent(event) {
@@ -160,6 +177,7 @@ class Navigator {
       this.navigatorEventSubscription.remove();
       Navigation.clearEventHandler(this.navigatorEventID);
     }
+    this._setEventInterest(null);
   }
 
   async screenIsCurrentlyVisible() {
@@ -132,8 +132,13 @@ function adaptTopTabs(screen, navigatorID) {
   });
 }
 
+// Matches the native prefetcher, which unmounts prefetched screens that aren't pushed within 30 seconds
+const PREFETCH_EXPIRY_MS = 30000;
+const prefetchedScreens = {};
+
 function navigatorPush(navigator, params) {
   addNavigatorParams(params, navigator);
+  usePrefetchedScreenIds(params);
   addNavigatorOptions(params);
   addNavigatorButtons(params);
   addTitleBarBackButtonIfNeeded(params);
@@ -146,7 +151,59 @@ function navigatorPush(navigator, params) {
   adapted = adaptNavigationParams(adapted);
   adapted.overrideBackPress = params.overrideBackPress;
 
-  newPlatformSpecific.push(adapted);
+  return newPlatformSpecific.push(adapted);
+}
+
+function navigatorPrefetch(navigator, params) {
+  addNavigatorParams(params, navigator);
+  const key = getPrefetchKey(params);
+  if (!key) {
+    return;
+  }
+  removeExpiredPrefetchedScreens();
+  if (prefetchedScreens[key]) {
+    discardPrefetchedScreen(key);
+  }
+  prefetchedScreens[key] = {
+    screenInstanceID: params.screenInstanceID,
+    navigatorEventID: params.navigatorEventID,
+    timestamp: Date.now()
+  };
+  params.screenId = params.screen;
+  newPlatformSpecific.prefetchScreen(adaptNavigationParams(params));
+}
+
+function usePrefetchedScreenIds(params) {
+  removeExpiredPrefetchedScreens();
+  const key = getPrefetchKey(params);
+  const prefetched = key && prefetchedScreens[key];
+  if (prefetched) {
+    delete prefetchedScreens[key];
+    params.screenInstanceID = prefetched.screenInstanceID;
+    params.navigatorEventID = prefetched.navigatorEventID;
+  }
+}
+
+function removeExpiredPrefetchedScreens() {
+  const now = Date.now();
+  _.forEach(_.keys(prefetchedScreens), (key) => {
+    if (now - prefetchedScreens[key].timestamp >= PREFETCH_EXPIRY_MS) {
+      discardPrefetchedScreen(key);
+    }
+  });
+}
+
+function discardPrefetchedScreen(key) {
+  newPlatformSpecific.discardPrefetchedScreen(prefetchedScreens[key].screenInstanceID);
+  delete prefetchedScreens[key];
+}
+
+function getPrefetchKey(params) {
+  try {
+    return params.navigatorID + '/' + params.screen + '/' + JSON.stringify(params.passProps || {});
+  } catch (e) {
+    return null;
+  }
 }
 
 function navigatorPop(navigator, params) {
@@ -157,7 +214,7 @@ function navigatorPop(navigator, params) {
   adapted = adaptNavigationParams(adapted);
   adapted.timestamp = Date.now();
 
-  newPlatformSpecific.pop(adapted);
+  return newPlatformSpecific.pop(adapted);
 }
 
 function navigatorPopToRoot(navigator, params) {
@@ -168,7 +225,7 @@ function navigatorPopToRoot(navigator, params) {
   adapted = adaptNavigationParams(adapted);
   adapted.timestamp = Date.now();
 
-  newPlatformSpecific.popToRoot(adapted);
+  return newPlatformSpecific.popToRoot(adapted);
 }
 
 function navigatorResetTo(navigatorID, params) {
@@ -183,7 +240,7 @@ function navigatorResetTo(navigatorID, params) {
   adapted = adaptNavigationParams(adapted);
   adapted.timestamp = Date.now();
 
-  newPlatformSpecific.newStack(adapted);
+  return newPlatformSpecific.newStack(adapted);
 }
 
 function adaptNavigationStyleToScreenStyle(screen) {
@@ -245,7 +302,10 @@ function convertStyleParams(originalStyleObject) {
     selectedTopTabIndicatorHeight: originalStyleObject.selectedTopTabIndicatorHeight,
     selectedTopTabIndicatorColor: processColor(originalStyleObject.selectedTopTabIndicatorColor),
     topTabsScrollable: originalStyleObject.topTabsScrollable,
+    topTabsOffscreenPageLimit: originalStyleObject.topTabsOffscreenPageLimit,
     screenBackgroundColor: processColor(originalStyleObject.screenBackgroundColor),
+    screenRenderDeadline: originalStyleObject.screenRenderDeadline,
+    screenPlaceholderLayout: originalStyleObject.screenPlaceholderLayout,
 
     drawScreenAboveBottomTabs: !originalStyleObject.drawUnderTabBar,
 
@@ -539,7 +599,7 @@ function showModal(params) {
   adapted.overrideBackPress = params.overrideBackPress;
   adapted.timestamp = Date.now();
 
-  newPlatformSpecific.showModal(adapted);
+  return newPlatformSpecific.showModal(adapted);
 }
 
 function showLightBox(params) {
@@ -803,6 +863,10 @@ function dismissContextualMenu() {
   newPlatformSpecific.dismissContextualMenu();
 }
 
+function navigatorSetEventInterest(navigator, eventTypes) {
+  newPlatformSpecific.setNavigatorEventInterest(navigator.navigatorEventID, eventTypes);
+}
+
 async function isAppLaunched() {
   return await newPlatformSpecific.isAppLaunched();
 }
@@ -820,6 +884,7 @@ export default {
   addSplashScreen,
   removeSplashScreen,
   navigatorPush,
+  navigatorPrefetch,
   navigatorPop,
   navigatorPopToRoot,
   navigatorResetTo,
@@ -848,5 +913,6 @@ export default {
   showContextualMenu,
   dismissContextualMenu,
   isAppLaunched,
-  getCurrentlyVisibleScreenId
+  getCurrentlyVisibleScreenId,
+  navigatorSetEventInterest
 };
@@ -1,10 +1,20 @@
 import React, {Component} from 'react';
-import {AppRegistry, NativeModules} from 'react-native';
+import {AppRegistry, NativeModules, DeviceEventEmitter} from 'react-native';
 import _ from 'lodash';
 import PropRegistry from './PropRegistry';
 
 const NativeReactModule = NativeModules.NavigationReactModule;
 
+// screen lifecycle events are sent once per frame, in the order they happened
+DeviceEventEmitter.addListener('navigatorScreenChangedEvents', (events) => {
+  events.forEach((event) => DeviceEventEmitter.emit(event.navigatorEventID, event));
+});
+
+// events sent by native before the React context was initialized
+DeviceEventEmitter.addListener('navigatorEarlyEvents', (events) => {
+  events.forEach(({name, data}) => DeviceEventEmitter.emit(name, data));
+});
+
 function startApp(activityParams) {
   savePassProps(activityParams);
   NativeReactModule.startApp(activityParams);
@@ -24,20 +34,29 @@ function removeSplashScreen() {
 
 function push(screenParams) {
   savePassProps(screenParams);
-  NativeReactModule.push(screenParams);
+  return NativeReactModule.push(screenParams);
+}
+
+function prefetchScreen(screenParams) {
+  savePassProps(screenParams);
+  NativeReactModule.prefetchScreen(screenParams.screenId, screenParams.passProps || null, screenParams.navigationParams);
+}
+
+function discardPrefetchedScreen(screenInstanceID) {
+  PropRegistry.remove(screenInstanceID);
 }
 
 function pop(screenParams) {
-  NativeReactModule.pop(screenParams);
+  return NativeReactModule.pop(screenParams);
 }
 
 function popToRoot(screenParams) {
-  NativeReactModule.popToRoot(screenParams);
+  return NativeReactModule.popToRoot(screenParams);
 }
 
 function newStack(screenParams) {
   savePassProps(screenParams);
-  NativeReactModule.newStack(screenParams);
+  return NativeReactModule.newStack(screenParams);
 }
 
 function toggleTopBarVisible(screenInstanceID, visible, animated) {
@@ -62,7 +81,7 @@ function setScreenButtons(screenInstanceID, navigatorEventID, rightButtons, left
 
 function showModal(screenParams) {
   savePassProps(screenParams);
-  NativeReactModule.showModal(screenParams);
+  return NativeReactModule.showModal(screenParams);
 }
 
 function showLightBox(params) {
@@ -91,6 +110,15 @@ function dismissInAppNotification(params) {
   NativeReactModule.hideSlidingOverlay(params);
 }
 
+function executeBatch(commands) {
+  _.forEach(commands, (command) => {
+    if (command.params) {
+      savePassProps(command.params);
+    }
+  });
+  return NativeReactModule.executeBatch(commands);
+}
+
 function savePassProps(params) {
   if (params.navigationParams && params.passProps) {
     PropRegistry.save(params.navigationParams.screenInstanceID, params.passProps);
@@ -193,6 +221,10 @@ function setScreenStyle(screenInstanceId, style) {
   NativeReactModule.setScreenStyle(screenInstanceId, style);
 }
 
+function setNavigatorEventInterest(navigatorEventID, eventTypes) {
+  NativeReactModule.setNavigatorEventInterest(navigatorEventID, eventTypes);
+}
+
 async function isAppLaunched() {
   return await NativeReactModule.isAppLaunched();
 }
@@ -201,9 +233,15 @@ async function getCurrentlyVisibleScreenId() {
   return await NativeReactModule.getCurrentlyVisibleScreenId();
 }
 
+async function getNavigationMetrics() {
+  return await NativeReactModule.getNavigationMetrics();
+}
+
 module.exports = {
   startApp,
   push,
+  prefetchScreen,
+  discardPrefetchedScreen,
   pop,
   popToRoot,
   newStack,
@@ -240,5 +278,8 @@ module.exports = {
   dismissContextualMenu,
   setScreenStyle,
   isAppLaunched,
-  getCurrentlyVisibleScreenId
+  getCurrentlyVisibleScreenId,
+  executeBatch,
+  getNavigationMetrics,
+  setNavigatorEventInterest
 };